@@ -290,6 +290,8 @@ public final class PBFeatureParser {
 
 	private void getPageTreeFeatures(PDPageTree pageTree, PDPageLabels pageLabels) {
 		String[] labels = pageLabels == null ? null : pageLabels.getLabelsByPageIndices();
+		// index is counted during the traversal, PDPageTree.indexOf walks the whole tree again
+		int pageIndex = 0;
 		for (PDPage page : pageTree) {
 			reportPageActions(page);
 			Set<String> annotsId = addAnnotsDependencies(page);
@@ -327,11 +329,11 @@ public final class PBFeatureParser {
 			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 					? parsePropertiesFromResources(resources) : null;
 
-			int pageIndex = pageTree.indexOf(page);
 			String label = labels != null && pageIndex < labels.length ? labels[pageIndex] : null;
 			reporter.report(PBFeaturesObjectCreator.createPageFeaturesObject(page, label, thumbID, annotsId, extGStateChild,
 					colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild,
 					pageIndex));
+			++pageIndex;
 		}
 	}
 
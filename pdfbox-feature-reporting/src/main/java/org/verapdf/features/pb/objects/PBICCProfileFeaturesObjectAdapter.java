@@ -24,11 +24,14 @@ import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.verapdf.features.objects.ICCProfileFeaturesObjectAdapter;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.features.pb.tools.PBAdapterHelper;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.*;
 
 /**
@@ -74,6 +77,10 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 	private static final int NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END = 12;
 	private static final int LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END = 12;
 
+	private static final int MAX_CACHED_PROFILES = 32;
+	private static final int DIGEST_BUFFER_SIZE = 8192;
+	private static final ICCProfileCache<ProfileInfo> PROFILES = new ICCProfileCache<>(MAX_CACHED_PROFILES);
+
 	private COSStream profile;
 	private String id;
 	private String version;
@@ -105,23 +112,29 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 		if (profile != null) {
 			this.errors = new ArrayList<>();
 			try {
-				byte[] profileBytes = PBAdapterHelper.inputStreamToByteArray(profile.getUnfilteredStream());
-				if (profileBytes.length < HEADER_SIZE) {
-					this.errors.add("ICCProfile contains less than " + HEADER_SIZE + " bytes");
-				} else {
-					this.version = getVersion(profileBytes);
-					this.cmmType = getString(profileBytes, CMMTYPE_BEGIN, CMMTYPE_END);
-					this.dataColorSpace = getString(profileBytes, DATACOLORSPACE_BEGIN, DATACOLORSPACE_END);
-					this.creator = getString(profileBytes, CREATOR_BEGIN, CREATOR_END);
-					this.creationDate = getCreationDate(profileBytes);
-					this.defaultRenderingIntent = getIntent(getString(profileBytes, RENDERINGINTENT_BEGIN, RENDERINGINTENT_END));
-					this.copyright = getStringTag(profileBytes, "cprt", true);
-					this.description = getStringTag(profileBytes, "desc", false);
-					this.profileID = getString(profileBytes, PROFILEID_BEGIN, PROFILEID_END);
-					this.deviceModel = getString(profileBytes, DEVICEMODEL_BEGIN, DEVICEMODEL_END);
-					this.deviceManufacturer = getString(profileBytes, DEVICEMANUFACTURER_BEGIN, DEVICEMANUFACTURER_END);
+				byte[] key = digestProfile(this.profile);
+				ProfileInfo info = PROFILES.get(key);
+				if (info == null) {
+					// profile is read into memory only when it is not cached yet
+					try (InputStream is = profile.getUnfilteredStream()) {
+						info = new ProfileInfo(PBAdapterHelper.inputStreamToByteArray(is));
+					}
+					PROFILES.put(key, info);
+				}
+				this.version = info.version;
+				this.cmmType = info.cmmType;
+				this.dataColorSpace = info.dataColorSpace;
+				this.creator = info.creator;
+				this.creationDate = info.creationDate == null ? null : (Calendar) info.creationDate.clone();
+				this.defaultRenderingIntent = info.defaultRenderingIntent;
+				this.copyright = info.copyright;
+				this.description = info.description;
+				this.profileID = info.profileID;
+				this.deviceModel = info.deviceModel;
+				this.deviceManufacturer = info.deviceManufacturer;
+				if (info.error != null) {
+					this.errors.add(info.error);
 				}
-
 			} catch (IOException e) {
 				LOGGER.debug("Reading byte array from InputStream error", e);
 				this.errors.add(e.getMessage());
@@ -129,6 +142,17 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 		}
 	}
 
+	private static byte[] digestProfile(COSStream profile) throws IOException {
+		MessageDigest digest = ICCProfileCache.newDigest();
+		try (InputStream is = new DigestInputStream(profile.getUnfilteredStream(), digest)) {
+			byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+			while (is.read(buffer) != -1) {
+				// only digested
+			}
+		}
+		return digest.digest();
+	}
+
 	@Override
 	public String getId() {
 		return id;
@@ -394,4 +418,53 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 		}
 		return value;
 	}
+
+	/**
+	 * Immutable result of analysis of the profile bytes, shared by all
+	 * profiles with the same content
+	 */
+	private static final class ProfileInfo {
+		private final String version;
+		private final String cmmType;
+		private final String dataColorSpace;
+		private final String creator;
+		private final Calendar creationDate;
+		private final String defaultRenderingIntent;
+		private final String copyright;
+		private final String description;
+		private final String profileID;
+		private final String deviceModel;
+		private final String deviceManufacturer;
+		private final String error;
+
+		private ProfileInfo(byte[] profileBytes) {
+			if (profileBytes.length < HEADER_SIZE) {
+				this.version = null;
+				this.cmmType = null;
+				this.dataColorSpace = null;
+				this.creator = null;
+				this.creationDate = null;
+				this.defaultRenderingIntent = null;
+				this.copyright = null;
+				this.description = null;
+				this.profileID = null;
+				this.deviceModel = null;
+				this.deviceManufacturer = null;
+				this.error = "ICCProfile contains less than " + HEADER_SIZE + " bytes";
+			} else {
+				this.version = getVersion(profileBytes);
+				this.cmmType = getString(profileBytes, CMMTYPE_BEGIN, CMMTYPE_END);
+				this.dataColorSpace = getString(profileBytes, DATACOLORSPACE_BEGIN, DATACOLORSPACE_END);
+				this.creator = getString(profileBytes, CREATOR_BEGIN, CREATOR_END);
+				this.creationDate = getCreationDate(profileBytes);
+				this.defaultRenderingIntent = getIntent(getString(profileBytes, RENDERINGINTENT_BEGIN, RENDERINGINTENT_END));
+				this.copyright = getStringTag(profileBytes, "cprt", true);
+				this.description = getStringTag(profileBytes, "desc", false);
+				this.profileID = getString(profileBytes, PROFILEID_BEGIN, PROFILEID_END);
+				this.deviceModel = getString(profileBytes, DEVICEMODEL_BEGIN, DEVICEMODEL_END);
+				this.deviceManufacturer = getString(profileBytes, DEVICEMANUFACTURER_BEGIN, DEVICEMANUFACTURER_END);
+				this.error = null;
+			}
+		}
+	}
 }
@@ -0,0 +1,122 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide, size-bounded cache of ICC profile analysis results. Results
+ * are keyed by digest of the decoded profile bytes, so the same profile
+ * embedded into many documents is analysed once. The least recently used
+ * result is evicted when the cache is full.
+ *
+ * @param <V> type of analysis result, should be immutable
+ */
+public final class ICCProfileCache<V> {
+
+	/** Algorithm of profile digests */
+	public static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private final Map<ByteBuffer, V> results;
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param maxSize maximal number of cached results
+	 */
+	public ICCProfileCache(final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Cache size must be positive");
+		}
+		this.results = new LinkedHashMap<ByteBuffer, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return new message digest for profile bytes
+	 */
+	public static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(DIGEST_ALGORITHM + " digest is not supported", e);
+		}
+	}
+
+	/**
+	 * @param digest digest of the decoded profile bytes
+	 * @return cached analysis result or {@code null} if it is not cached
+	 */
+	public synchronized V get(byte[] digest) {
+		V result = this.results.get(ByteBuffer.wrap(digest));
+		if (result != null) {
+			++this.hits;
+		} else {
+			++this.misses;
+		}
+		return result;
+	}
+
+	/**
+	 * @param digest digest of the decoded profile bytes
+	 * @param result analysis result of the profile
+	 */
+	public synchronized void put(byte[] digest, V result) {
+		this.results.put(ByteBuffer.wrap(digest.clone()), result);
+	}
+
+	/**
+	 * @return number of requests answered from the cache
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * @return number of requests that required analysis of the profile
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return number of cached results
+	 */
+	public synchronized int size() {
+		return this.results.size();
+	}
+
+	public synchronized void clear() {
+		this.results.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+}
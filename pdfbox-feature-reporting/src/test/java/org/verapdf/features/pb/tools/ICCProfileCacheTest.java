@@ -0,0 +1,55 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public class ICCProfileCacheTest {
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		ICCProfileCache<String> cache = new ICCProfileCache<>(2);
+		byte[] first = digest("first");
+		byte[] second = digest("second");
+		byte[] third = digest("third");
+
+		cache.put(first, "1");
+		cache.put(second, "2");
+		Assert.assertEquals("1", cache.get(digest("first")));
+		cache.put(third, "3");
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertNull(cache.get(second));
+		Assert.assertEquals("1", cache.get(first));
+		Assert.assertEquals("3", cache.get(third));
+		Assert.assertEquals(3, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	private static byte[] digest(String content) {
+		MessageDigest digest = ICCProfileCache.newDigest();
+		return digest.digest(content.getBytes(StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,167 @@
+/**
+ * This file is part of veraPDF PDF Box Validation Benchmarks, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box Validation Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box Validation Benchmarks as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box Validation Benchmarks as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.benchmarks;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Documents used by the benchmarks. A document is either a path relative to
+ * the root of the source tree, {@code synthetic:<pages>} for a generated
+ * document with the given number of text and graphics heavy pages or
+ * {@code pages:<pages>} for a generated document with the given number of
+ * empty pages.
+ */
+public final class BenchmarkDocuments {
+
+	/** System property with the root of the source tree */
+	public static final String ROOT_PROPERTY = "verapdf.benchmarks.root";
+
+	public static final String FONTS = "pdfbox-validation-model/src/test/resources/model/impl/pb/pd/Fonts.pdf";
+	public static final String OPERATORS = "pdfbox-validation-model/src/test/resources/model/impl/pb/operator/Operators.pdf";
+	public static final String FEATURES = "pdfbox-feature-reporting/src/test/resources/FR.pdf";
+	public static final String FIXER = "pdfbox-metadata-fixer/src/test/resources/test1.pdf";
+	public static final String SYNTHETIC_LARGE = "synthetic:500";
+	public static final String PAGE_TREE_10K = "pages:10000";
+	public static final String PAGE_TREE_50K = "pages:50000";
+
+	private static final String SYNTHETIC_PREFIX = "synthetic:";
+	private static final String PAGE_TREE_PREFIX = "pages:";
+	private static final String MODULE_DIRECTORY = "pdfbox-validation-model";
+
+	private static final int LINES_PER_PAGE = 60;
+	private static final int RECTANGLES_PER_PAGE = 40;
+
+	private BenchmarkDocuments() {
+		// disable default constructor
+	}
+
+	/**
+	 * Returns file for the given document description. Synthetic documents
+	 * are generated into a temporary file, which is deleted on exit.
+	 *
+	 * @param document
+	 *            document description
+	 * @return file with the document
+	 * @throws IOException
+	 *             if document can not be found or generated
+	 */
+	public static File resolve(String document) throws IOException {
+		if (document.startsWith(SYNTHETIC_PREFIX)) {
+			int pages = Integer.parseInt(document.substring(SYNTHETIC_PREFIX.length()));
+			File file = File.createTempFile("verapdf-benchmark-", ".pdf");
+			file.deleteOnExit();
+			createSynthetic(pages, file);
+			return file;
+		}
+		if (document.startsWith(PAGE_TREE_PREFIX)) {
+			int pages = Integer.parseInt(document.substring(PAGE_TREE_PREFIX.length()));
+			File file = File.createTempFile("verapdf-benchmark-", ".pdf");
+			file.deleteOnExit();
+			createPageTree(pages, file);
+			return file;
+		}
+		File file = new File(getRoot(), document);
+		if (!file.isFile()) {
+			throw new IOException("Benchmark document " + file + " does not exist. Set -D" + ROOT_PROPERTY
+					+ " to the root of the source tree");
+		}
+		return file;
+	}
+
+	/**
+	 * Writes document with the given number of pages. Every page shows text
+	 * with a standard font and fills rectangles in several colors.
+	 */
+	public static void createSynthetic(int pages, File target) throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			COSDictionary font = new COSDictionary();
+			font.setItem(COSName.TYPE, COSName.FONT);
+			font.setItem(COSName.SUBTYPE, COSName.TYPE1);
+			font.setName(COSName.BASE_FONT, "Helvetica");
+			COSDictionary fonts = new COSDictionary();
+			fonts.setItem(COSName.getPDFName("F1"), font);
+			COSDictionary resources = new COSDictionary();
+			resources.setItem(COSName.FONT, fonts);
+
+			for (int i = 0; i < pages; ++i) {
+				PDPage page = new PDPage();
+				byte[] content = createPageContent(i).getBytes(StandardCharsets.US_ASCII);
+				PDStream contents = new PDStream(document, new ByteArrayInputStream(content));
+				page.getCOSObject().setItem(COSName.CONTENTS, contents);
+				page.getCOSObject().setItem(COSName.RESOURCES, resources);
+				document.addPage(page);
+			}
+			document.save(target);
+		}
+	}
+
+	/**
+	 * Writes document with the given number of empty pages sharing the same
+	 * resources, so that processing time depends on the page tree only.
+	 */
+	public static void createPageTree(int pages, File target) throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			COSDictionary resources = new COSDictionary();
+			for (int i = 0; i < pages; ++i) {
+				PDPage page = new PDPage();
+				page.getCOSObject().setItem(COSName.RESOURCES, resources);
+				document.addPage(page);
+			}
+			document.save(target);
+		}
+	}
+
+	private static String createPageContent(int pageNumber) {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < RECTANGLES_PER_PAGE; ++i) {
+			content.append("q ").append(i % 10 / 10.0).append(" 0.5 ").append(1 - i % 10 / 10.0).append(" rg ")
+					.append(20 + (i % 8) * 70).append(' ').append(20 + (i / 8) * 40).append(" 60 30 re f Q\n");
+		}
+		content.append("BT /F1 10 Tf 12 TL 40 760 Td\n");
+		for (int i = 0; i < LINES_PER_PAGE; ++i) {
+			content.append("(Page ").append(pageNumber).append(", line ").append(i)
+					.append(": The quick brown fox jumps over the lazy dog) Tj T*\n");
+		}
+		content.append("ET\n");
+		return content.toString();
+	}
+
+	private static File getRoot() {
+		String root = System.getProperty(ROOT_PROPERTY);
+		if (root != null) {
+			return new File(root);
+		}
+		File directory = new File(System.getProperty("user.dir")).getAbsoluteFile();
+		while (directory != null && !new File(directory, MODULE_DIRECTORY).isDirectory()) {
+			directory = directory.getParentFile();
+		}
+		return directory != null ? directory : new File(".");
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * This file is part of veraPDF PDF Box Validation Benchmarks, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box Validation Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box Validation Benchmarks as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box Validation Benchmarks as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.benchmarks;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.verapdf.features.FeatureExtractionResult;
+import org.verapdf.features.FeatureExtractorConfig;
+import org.verapdf.features.FeatureExtractorConfigImpl;
+import org.verapdf.features.FeatureObjectType;
+import org.verapdf.features.pb.PBFeatureParser;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures extraction of all features of a document by
+ * {@link PBFeatureParser#getFeaturesCollection}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeatureExtractionBenchmark {
+
+	@Param({ BenchmarkDocuments.FONTS, BenchmarkDocuments.OPERATORS, BenchmarkDocuments.FEATURES,
+			BenchmarkDocuments.FIXER, BenchmarkDocuments.SYNTHETIC_LARGE })
+	public String document;
+
+	private PDDocument pdDocument;
+	private FeatureExtractorConfig config;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.pdDocument = PDDocument.load(BenchmarkDocuments.resolve(this.document), false, true);
+		this.config = FeatureExtractorConfigImpl.fromFeatureSet(EnumSet.allOf(FeatureObjectType.class));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.pdDocument.close();
+	}
+
+	@Benchmark
+	public FeatureExtractionResult getFeaturesCollection() {
+		return PBFeatureParser.getFeaturesCollection(this.pdDocument, this.config);
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * This file is part of veraPDF PDF Box Validation Benchmarks, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box Validation Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box Validation Benchmarks as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box Validation Benchmarks as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.benchmarks;
+
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.impl.pb.operator.textshow.PBOpTextShow;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures extraction of used glyphs from all text show operators of a
+ * document. Font containers and glyphs cached in the validation context of
+ * the document are dropped before every extraction.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlyphExtractionBenchmark {
+
+	@Param({ BenchmarkDocuments.FONTS, BenchmarkDocuments.OPERATORS, BenchmarkDocuments.FEATURES,
+			BenchmarkDocuments.FIXER, BenchmarkDocuments.SYNTHETIC_LARGE })
+	public String document;
+
+	private PDDocument pdDocument;
+	private final List<PBOpTextShow> textShowOperators = new ArrayList<>();
+
+	@Setup
+	public void setUp() throws IOException {
+		this.pdDocument = PDDocument.load(BenchmarkDocuments.resolve(this.document), false, true);
+		ValidationContext.create(this.pdDocument);
+		for (PDPage page : this.pdDocument.getPages()) {
+			COSStream stream = page.getContentStream();
+			if (stream == null) {
+				continue;
+			}
+			PDFStreamParser parser = new PDFStreamParser(stream, true);
+			parser.parse();
+			PDInheritableResources resources = PDInheritableResources.getInstance(page.getInheritedResources(),
+					page.getPageResources());
+			List<Operator> operators = new OperatorFactory().operatorsFromTokens(parser.getTokens(), resources,
+					this.pdDocument, PDFAFlavour.PDFA_1_B);
+			for (Operator operator : operators) {
+				if (operator instanceof PBOpTextShow) {
+					this.textShowOperators.add((PBOpTextShow) operator);
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		ValidationContext.release(this.pdDocument);
+		this.pdDocument.close();
+	}
+
+	@Benchmark
+	public int usedGlyphs() {
+		ValidationContext.create(this.pdDocument);
+		int count = 0;
+		for (PBOpTextShow operator : this.textShowOperators) {
+			count += operator.getLinkedObjects(PBOpTextShow.USED_GLYPHS).size();
+		}
+		return count;
+	}
+}
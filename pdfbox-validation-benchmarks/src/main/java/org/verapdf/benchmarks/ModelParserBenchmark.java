@@ -0,0 +1,74 @@
+/**
+ * This file is part of veraPDF PDF Box Validation Benchmarks, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box Validation Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box Validation Benchmarks as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box Validation Benchmarks as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.verapdf.core.EncryptedPdfException;
+import org.verapdf.core.ModelParsingException;
+import org.verapdf.model.ModelParser;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of a document by {@link ModelParser}, including detection
+ * of the flavour from document metadata.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelParserBenchmark {
+
+	@Param({ BenchmarkDocuments.FONTS, BenchmarkDocuments.OPERATORS, BenchmarkDocuments.FEATURES,
+			BenchmarkDocuments.FIXER, BenchmarkDocuments.SYNTHETIC_LARGE })
+	public String document;
+
+	private File file;
+
+	@Setup
+	public void setUp() throws IOException {
+		PdfBoxFoundryProvider.initialise();
+		this.file = BenchmarkDocuments.resolve(this.document);
+	}
+
+	@Benchmark
+	public PDFAFlavour createModelWithFlavour() throws ModelParsingException, EncryptedPdfException {
+		try (ModelParser parser = ModelParser.createModelWithFlavour(this.file, PDFAFlavour.NO_FLAVOUR)) {
+			return parser.getFlavour();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * This file is part of veraPDF PDF Box Validation Benchmarks, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box Validation Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box Validation Benchmarks as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box Validation Benchmarks as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.benchmarks;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation of the whole validation model: every link of every
+ * object reachable from {@link PBCosDocument} is requested once, in the same
+ * way as the validator does. Caches of the document are dropped before every
+ * traversal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelTraversalBenchmark {
+
+	@Param({ BenchmarkDocuments.FONTS, BenchmarkDocuments.OPERATORS, BenchmarkDocuments.FEATURES,
+			BenchmarkDocuments.FIXER, BenchmarkDocuments.SYNTHETIC_LARGE })
+	public String document;
+
+	private PDDocument pdDocument;
+
+	@Setup
+	public void setUp() throws IOException {
+		PdfBoxFoundryProvider.initialise();
+		this.pdDocument = PDDocument.load(BenchmarkDocuments.resolve(this.document), false, true);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		ValidationContext.release(this.pdDocument);
+		this.pdDocument.close();
+	}
+
+	@Benchmark
+	public int traverseModel() {
+		ValidationContext.create(this.pdDocument);
+		return traverse(new PBCosDocument(this.pdDocument, PDFAFlavour.PDFA_1_B));
+	}
+
+	static int traverse(org.verapdf.model.baselayer.Object root) {
+		Set<String> visitedIDs = new HashSet<>();
+		Deque<org.verapdf.model.baselayer.Object> objects = new ArrayDeque<>();
+		objects.push(root);
+		int count = 0;
+		while (!objects.isEmpty()) {
+			org.verapdf.model.baselayer.Object object = objects.pop();
+			String id = object.getID();
+			if (id != null && !visitedIDs.add(id)) {
+				continue;
+			}
+			++count;
+			for (String link : object.getLinks()) {
+				for (org.verapdf.model.baselayer.Object linked : object.getLinkedObjects(link)) {
+					if (linked != null) {
+						objects.push(linked);
+					}
+				}
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model;
+
+import java.io.File;
+
+/**
+ * Memory settings used by {@link ModelParser} to load a document. By default
+ * the document is loaded in the same way as before these options existed:
+ * input streams are copied to main memory.
+ * <p>
+ * With a main memory limit, an input stream longer than the limit is copied
+ * to a temporary scratch file instead, which is deleted when the parser is
+ * closed. File inputs are always read through a random access file and are
+ * never copied to memory as a whole. Either way the document is parsed with
+ * the same parser settings, so the model does not depend on the limit.
+ * <p>
+ * Options also carry the {@link ModelBudget} limiting the size of the model
+ * built for the document.
+ */
+public final class LoadingOptions {
+
+	/** Value of the main memory limit, meaning that it is not limited */
+	public static final long UNLIMITED = -1;
+
+	private static final LoadingOptions DEFAULT = new LoadingOptions(UNLIMITED, null, ModelBudget.unlimited());
+
+	private final long maxMainMemoryBytes;
+	private final File scratchDirectory;
+	private final ModelBudget budget;
+
+	private LoadingOptions(long maxMainMemoryBytes, File scratchDirectory, ModelBudget budget) {
+		this.maxMainMemoryBytes = maxMainMemoryBytes;
+		this.scratchDirectory = scratchDirectory;
+		this.budget = budget;
+	}
+
+	/**
+	 * @return options that copy input streams to main memory
+	 */
+	public static LoadingOptions defaultOptions() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Creates options that keep input streams of at most the given number of
+	 * bytes in main memory and copy longer streams to a scratch file.
+	 *
+	 * @param maxMainMemoryBytes
+	 *            maximal number of bytes kept in main memory, 0 to keep all
+	 *            data in scratch file
+	 * @return created options
+	 */
+	public static LoadingOptions withMainMemoryLimit(long maxMainMemoryBytes) {
+		if (maxMainMemoryBytes < 0) {
+			throw new IllegalArgumentException("Main memory limit can not be negative");
+		}
+		return new LoadingOptions(maxMainMemoryBytes, null, ModelBudget.unlimited());
+	}
+
+	/**
+	 * Creates copy of these options that places scratch files into the given
+	 * directory instead of the default temporary directory. The directory is
+	 * used only if main memory is limited.
+	 *
+	 * @param directory
+	 *            existing directory for scratch files, or null for the
+	 *            default temporary directory
+	 * @return created options
+	 */
+	public LoadingOptions withScratchDirectory(File directory) {
+		if (directory != null && !directory.isDirectory()) {
+			throw new IllegalArgumentException("Scratch directory " + directory + " does not exist");
+		}
+		return new LoadingOptions(this.maxMainMemoryBytes, directory, this.budget);
+	}
+
+	/**
+	 * Creates copy of these options that limits the model of the document by
+	 * the given budget.
+	 *
+	 * @param budget
+	 *            budget of the model
+	 * @return created options
+	 */
+	public LoadingOptions withBudget(ModelBudget budget) {
+		if (budget == null) {
+			throw new IllegalArgumentException("Model budget can not be null");
+		}
+		return new LoadingOptions(this.maxMainMemoryBytes, this.scratchDirectory, budget);
+	}
+
+	/**
+	 * @return maximal number of bytes kept in main memory or {@link #UNLIMITED}
+	 */
+	public long getMaxMainMemoryBytes() {
+		return this.maxMainMemoryBytes;
+	}
+
+	/**
+	 * @return directory for scratch files or null, if default temporary
+	 *         directory is used
+	 */
+	public File getScratchDirectory() {
+		return this.scratchDirectory;
+	}
+
+	/**
+	 * @return budget of the model of the document
+	 */
+	public ModelBudget getBudget() {
+		return this.budget;
+	}
+
+	/**
+	 * @return true if these options load documents completely into main memory
+	 */
+	public boolean isMainMemoryOnly() {
+		return this.maxMainMemoryBytes == UNLIMITED;
+	}
+
+	@Override
+	public String toString() {
+		return "LoadingOptions [maxMainMemoryBytes=" + this.maxMainMemoryBytes + ", scratchDirectory="
+				+ this.scratchDirectory + ", budget=" + this.budget + "]";
+	}
+}
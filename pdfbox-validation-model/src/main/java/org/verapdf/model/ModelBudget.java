@@ -0,0 +1,162 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model;
+
+/**
+ * Limits on the size of the validation model built for a single document.
+ * Every limit is {@link #UNLIMITED} by default. When a limit is exceeded
+ * model construction stops with {@link ModelBudgetExceededException}.
+ * <p>
+ * Limits apply to the model of a document obtained with
+ * {@link ModelParser#getRoot()}, on whichever thread it is built:
+ * <ul>
+ * <li>model objects counts model objects constructed for the document,
+ * starting with the root object. Objects constructed again by a repeated
+ * request of a link are counted again;</li>
+ * <li>operators per stream counts operators of a single content stream;</li>
+ * <li>Form XObject depth counts Form XObjects used one inside another,
+ * including forms already parsed at another place;</li>
+ * <li>decoded bytes counts decoded data of content streams, embedded font
+ * programs, JPEG2000 images, metadata, CMaps, CIDSets, ICC profile headers
+ * and embedded files. Data of other images is never decoded by the
+ * model. Streams decoded by pdfbox are charged before decoding, by their
+ * declared length, if they use filters other than Flate.</li>
+ * </ul>
+ */
+public final class ModelBudget {
+
+	/** Value of a limit, meaning that it is not limited */
+	public static final long UNLIMITED = -1;
+
+	private static final ModelBudget UNLIMITED_BUDGET = new ModelBudget(UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED);
+
+	/**
+	 * Kinds of limits of a budget
+	 */
+	public enum Kind {
+		MODEL_OBJECTS,
+		OPERATORS_PER_STREAM,
+		FORM_XOBJECT_DEPTH,
+		DECODED_BYTES
+	}
+
+	private final long maxModelObjects;
+	private final long maxOperatorsPerStream;
+	private final long maxFormXObjectDepth;
+	private final long maxDecodedBytes;
+
+	private ModelBudget(long maxModelObjects, long maxOperatorsPerStream, long maxFormXObjectDepth,
+			long maxDecodedBytes) {
+		this.maxModelObjects = maxModelObjects;
+		this.maxOperatorsPerStream = maxOperatorsPerStream;
+		this.maxFormXObjectDepth = maxFormXObjectDepth;
+		this.maxDecodedBytes = maxDecodedBytes;
+	}
+
+	/**
+	 * @return budget without any limits
+	 */
+	public static ModelBudget unlimited() {
+		return UNLIMITED_BUDGET;
+	}
+
+	/**
+	 * @param maxModelObjects
+	 *            maximal number of model objects constructed for the document
+	 * @return copy of this budget with the given limit
+	 */
+	public ModelBudget withMaxModelObjects(long maxModelObjects) {
+		return new ModelBudget(checkLimit(maxModelObjects), this.maxOperatorsPerStream, this.maxFormXObjectDepth,
+				this.maxDecodedBytes);
+	}
+
+	/**
+	 * @param maxOperatorsPerStream
+	 *            maximal number of operators of a single content stream
+	 * @return copy of this budget with the given limit
+	 */
+	public ModelBudget withMaxOperatorsPerStream(long maxOperatorsPerStream) {
+		return new ModelBudget(this.maxModelObjects, checkLimit(maxOperatorsPerStream), this.maxFormXObjectDepth,
+				this.maxDecodedBytes);
+	}
+
+	/**
+	 * @param maxFormXObjectDepth
+	 *            maximal number of Form XObjects used one inside another
+	 * @return copy of this budget with the given limit
+	 */
+	public ModelBudget withMaxFormXObjectDepth(long maxFormXObjectDepth) {
+		return new ModelBudget(this.maxModelObjects, this.maxOperatorsPerStream, checkLimit(maxFormXObjectDepth),
+				this.maxDecodedBytes);
+	}
+
+	/**
+	 * @param maxDecodedBytes
+	 *            maximal number of bytes of streams decoded by the model
+	 * @return copy of this budget with the given limit
+	 */
+	public ModelBudget withMaxDecodedBytes(long maxDecodedBytes) {
+		return new ModelBudget(this.maxModelObjects, this.maxOperatorsPerStream, this.maxFormXObjectDepth,
+				checkLimit(maxDecodedBytes));
+	}
+
+	/**
+	 * @param kind
+	 *            kind of the limit
+	 * @return value of the limit or {@link #UNLIMITED}
+	 */
+	public long getLimit(Kind kind) {
+		switch (kind) {
+			case MODEL_OBJECTS:
+				return this.maxModelObjects;
+			case OPERATORS_PER_STREAM:
+				return this.maxOperatorsPerStream;
+			case FORM_XOBJECT_DEPTH:
+				return this.maxFormXObjectDepth;
+			case DECODED_BYTES:
+				return this.maxDecodedBytes;
+			default:
+				throw new IllegalArgumentException("Unknown budget kind " + kind);
+		}
+	}
+
+	/**
+	 * @return true if none of the limits is set
+	 */
+	public boolean isUnlimited() {
+		return this.maxModelObjects == UNLIMITED && this.maxOperatorsPerStream == UNLIMITED
+				&& this.maxFormXObjectDepth == UNLIMITED && this.maxDecodedBytes == UNLIMITED;
+	}
+
+	private static long checkLimit(long limit) {
+		if (limit < 0 && limit != UNLIMITED) {
+			throw new IllegalArgumentException("Budget limit can not be negative");
+		}
+		return limit;
+	}
+
+	@Override
+	public String toString() {
+		return "ModelBudget [maxModelObjects=" + this.maxModelObjects + ", maxOperatorsPerStream="
+				+ this.maxOperatorsPerStream + ", maxFormXObjectDepth=" + this.maxFormXObjectDepth
+				+ ", maxDecodedBytes=" + this.maxDecodedBytes + "]";
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model;
+
+/**
+ * Thrown when construction of the validation model exceeds a limit of the
+ * {@link ModelBudget} of the document. The exception is unchecked, so it
+ * stops construction from any model object and is not mistaken for a
+ * problem of a single broken object.
+ */
+public class ModelBudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final ModelBudget.Kind kind;
+	private final long limit;
+
+	/**
+	 * @param kind
+	 *            kind of the exceeded limit
+	 * @param limit
+	 *            value of the exceeded limit
+	 */
+	public ModelBudgetExceededException(ModelBudget.Kind kind, long limit) {
+		super("Model budget exceeded: " + kind + " limit is " + limit);
+		this.kind = kind;
+		this.limit = limit;
+	}
+
+	/**
+	 * @return kind of the exceeded limit
+	 */
+	public ModelBudget.Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return value of the exceeded limit
+	 */
+	public long getLimit() {
+		return this.limit;
+	}
+}
@@ -23,6 +23,7 @@ package org.verapdf.model;
 import com.adobe.xmp.XMPException;
 import com.adobe.xmp.impl.VeraPDFMeta;
 import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
@@ -37,15 +38,21 @@ import org.verapdf.features.FeatureExtractorConfig;
 import org.verapdf.features.pb.PBFeatureParser;
 import org.verapdf.metadata.fixer.entity.PDFDocument;
 import org.verapdf.metadata.fixer.impl.pb.model.PDFDocumentImpl;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.model.tools.BudgetTracker;
+import org.verapdf.model.tools.LinkStatistics;
 import org.verapdf.pdfa.Foundries;
 import org.verapdf.pdfa.PDFAParser;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -63,25 +70,65 @@ public final class ModelParser implements PDFAParser {
 
 	private static final Logger logger = Logger.getLogger(ModelParser.class);
 
+	private static final int SPOOL_BUFFER_SIZE = 8192;
+
 	private PDDocument document;
 
+	private File scratchFile;
+
 	private final PDFAFlavour flavour;
 
-	private ModelParser(final InputStream docStream, PDFAFlavour flavour) throws IOException {
-		this.document = PDDocument.load(docStream, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+	private final BudgetTracker budgetTracker;
+
+	private ModelParser(final InputStream docStream, PDFAFlavour flavour, LoadingOptions options)
+			throws IOException {
+		if (options.isMainMemoryOnly()) {
+			this.document = PDDocument.load(docStream, false, true);
+		} else {
+			this.document = loadWithMainMemoryLimit(docStream, options);
+		}
+		this.budgetTracker = new BudgetTracker(options.getBudget());
+		try {
+			this.flavour = initialize(this.document, this.budgetTracker, flavour);
+		} catch (RuntimeException e) {
+			deleteScratchFile();
+			throw e;
+		}
 	}
 
-	private ModelParser(final File pdfFile, PDFAFlavour flavour) throws IOException {
+	private ModelParser(final File pdfFile, PDFAFlavour flavour, LoadingOptions options) throws IOException {
 		this.document = PDDocument.load(pdfFile, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+		this.budgetTracker = new BudgetTracker(options.getBudget());
+		this.flavour = initialize(this.document, this.budgetTracker, flavour);
 	}
 
 	public static ModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
+		return createModelWithFlavour(toLoad, flavour, LoadingOptions.defaultOptions());
+	}
+
+	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour)
+			throws ModelParsingException, EncryptedPdfException {
+		return createModelWithFlavour(pdfFile, flavour, LoadingOptions.defaultOptions());
+	}
+
+	/**
+	 * Creates parser for the given stream. Content of the stream is stored
+	 * according to the given loading options.
+	 *
+	 * @param toLoad
+	 *            stream with pdf document
+	 * @param flavour
+	 *            validation flavour or {@link PDFAFlavour#NO_FLAVOUR} to
+	 *            detect it from document metadata
+	 * @param options
+	 *            memory settings used for loading
+	 * @return created parser
+	 */
+	public static ModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour,
+			LoadingOptions options) throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
-			return new ModelParser(toLoad, flavour);
+			return new ModelParser(toLoad, flavour, options);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
 		} catch (IOException excep) {
@@ -89,11 +136,23 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour)
+	/**
+	 * Creates parser for the given file. The file is read in place, so only
+	 * the model budget of the given loading options applies.
+	 *
+	 * @param pdfFile
+	 *            pdf document
+	 * @param flavour
+	 *            validation flavour or {@link PDFAFlavour#NO_FLAVOUR} to
+	 *            detect it from document metadata
+	 * @param options
+	 *            memory settings used for loading
+	 * @return created parser
+	 */
+	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour, LoadingOptions options)
 			throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
-			return new ModelParser(pdfFile, flavour);
+			return new ModelParser(pdfFile, flavour, options);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
 		} catch (IOException excep) {
@@ -101,6 +160,70 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
+	/**
+	 * Loads the document keeping at most the main memory limit of the given
+	 * options in memory. A stream longer than the limit is copied to a scratch
+	 * file, which is deleted when the parser is closed.
+	 */
+	private PDDocument loadWithMainMemoryLimit(InputStream docStream, LoadingOptions options)
+			throws IOException {
+		long limit = options.getMaxMainMemoryBytes();
+		ByteArrayOutputStream head = new ByteArrayOutputStream();
+		byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+		int read;
+		while ((read = docStream.read(buffer, 0, (int) Math.min(buffer.length - 1, limit - head.size()) + 1)) > 0) {
+			head.write(buffer, 0, read);
+			if (head.size() > limit) {
+				break;
+			}
+		}
+		if (read < 0) {
+			return PDDocument.load(new ByteArrayInputStream(head.toByteArray()), false, true);
+		}
+		this.scratchFile = File.createTempFile("veraPDF", ".pdf", options.getScratchDirectory());
+		try {
+			try (OutputStream scratch = new FileOutputStream(this.scratchFile)) {
+				head.writeTo(scratch);
+				while ((read = docStream.read(buffer)) != -1) {
+					scratch.write(buffer, 0, read);
+				}
+			}
+			return PDDocument.load(this.scratchFile, false, true);
+		} catch (IOException | RuntimeException e) {
+			deleteScratchFile();
+			throw e;
+		}
+	}
+
+	private void deleteScratchFile() {
+		if (this.scratchFile != null && !this.scratchFile.delete()) {
+			logger.warn("Scratch file " + this.scratchFile + " can not be deleted");
+		}
+		this.scratchFile = null;
+	}
+
+	/**
+	 * Registers validation context of the loaded document and detects its
+	 * flavour. If detection fails, e.g. the model budget is exceeded by the
+	 * metadata, the document is closed and its context is released, as no
+	 * parser is returned to close them.
+	 */
+	private static PDFAFlavour initialize(PDDocument document, BudgetTracker budgetTracker, PDFAFlavour flavour)
+			throws IOException {
+		ValidationContext.create(document, budgetTracker);
+		try {
+			return (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(document) : flavour;
+		} catch (RuntimeException e) {
+			ValidationContext.release(document);
+			try {
+				document.close();
+			} catch (IOException closeException) {
+				logger.error("Problems with document close.", closeException);
+			}
+			throw e;
+		}
+	}
+
 	private static PDFAFlavour obtainFlavour(PDDocument document) {
 		PDFAFlavour defaultFlavour = Foundries.defaultInstance().defaultFlavour();
 		if (document == null || document.getDocumentCatalog() == null) {
@@ -110,8 +233,8 @@ public final class ModelParser implements PDFAParser {
 		if (metadata == null) {
 			return defaultFlavour;
 		}
-		try (InputStream is = metadata.exportXMPMetadata()) {
-			VeraPDFMeta veraPDFMeta = VeraPDFMeta.parse(is);
+		try {
+			VeraPDFMeta veraPDFMeta = parseMetadata(document, metadata);
 			Integer identificationPart = veraPDFMeta.getIdentificationPart();
 			String identificationConformance = veraPDFMeta.getIdentificationConformance();
 			PDFAFlavour pdfaFlavour = PDFAFlavour.byFlavourId(identificationPart + identificationConformance);
@@ -130,12 +253,18 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	private static void cleanUp() {
-		StaticContainers.clearAllContainers();
+	private static VeraPDFMeta parseMetadata(PDDocument document, PDMetadata metadata)
+			throws IOException, XMPException {
+		COSStream stream = metadata.getStream();
+		if (stream == null) {
+			throw new IOException("Metadata stream is missing");
+		}
+		return ValidationContext.of(document).getXMPMetadataCache().getMetadata(stream);
 	}
 
 	@Override
 	public PDFDocument getPDFDocument() {
+		// fixer modifies its metadata, so it parses a copy of its own
 		return new PDFDocumentImpl(this.document);
 	}
 
@@ -156,7 +285,35 @@ public final class ModelParser implements PDFAParser {
 	 */
 	@Override
 	public org.verapdf.model.baselayer.Object getRoot() {
-		return new PBCosDocument(this.document, this.flavour);
+		BudgetTracker previous = BudgetTracker.beginConstruction(this.budgetTracker);
+		try {
+			return new PBCosDocument(this.document, this.flavour);
+		} finally {
+			BudgetTracker.endConstruction(previous);
+		}
+	}
+
+	/**
+	 * Returns statistics of links requested from the model of this document.
+	 * Statistics are collected only while {@link LinkStatistics} is enabled.
+	 * They are kept by the budget tracker in the validation context of the
+	 * document, so calls made on any thread are recorded.
+	 *
+	 * @return link statistics of this document
+	 */
+	public LinkStatistics getLinkStatistics() {
+		return this.budgetTracker.getLinkStatistics();
+	}
+
+	/**
+	 * Returns usage of the model budget of this document. The tracker is
+	 * kept in the validation context of the document and is charged by the
+	 * model objects reached from the root object on any thread.
+	 *
+	 * @return model budget usage of this document
+	 */
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
 	}
 
 	@Override
@@ -183,6 +340,10 @@ public final class ModelParser implements PDFAParser {
 			}
 		} catch (IOException e) {
 			logger.error("Problems with document close.", e);
+		} finally {
+			// release font containers and other caches of the closed document
+			ValidationContext.release(this.document);
+			deleteScratchFile();
 		}
 	}
 }
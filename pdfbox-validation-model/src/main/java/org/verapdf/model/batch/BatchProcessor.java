@@ -0,0 +1,284 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.batch;
+
+import org.apache.log4j.Logger;
+import org.verapdf.model.LoadingOptions;
+import org.verapdf.model.ModelParser;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes a sequence of documents on a bounded pool of worker threads.
+ * <p>
+ * Documents are taken from the input only when there is room for them: at
+ * most {@code maxPending} documents are parsed or wait for the consumer at the
+ * same time, so the input may be an arbitrary long lazy sequence, e.g. a
+ * directory stream. Results are returned in the order of the input. A
+ * document which is processed longer than the timeout is reported as timed
+ * out and its worker is interrupted. Model construction checks interruption
+ * at every link, operator and block of decoded data and stops with
+ * {@link org.verapdf.model.ModelConstructionInterruptedException}, so the
+ * worker is freed for the next document. Processors doing long work outside
+ * of the model have to respond to interruption themselves.
+ * <p>
+ * Each document is parsed by its own {@link ModelParser}, so fonts, color
+ * spaces and other per-document caches stay in the document's validation
+ * context, while the process-wide caches, such as the ICC profile cache, are
+ * thread safe and shared by all workers.
+ */
+public final class BatchProcessor implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(BatchProcessor.class);
+
+	private final int maxPending;
+	private final long timeoutMillis;
+	private final LoadingOptions options;
+	private final ExecutorService workers;
+	private final ScheduledExecutorService watchdog;
+
+	/**
+	 * Creates batch processor that keeps twice as many documents pending as
+	 * there are workers and loads them with the default loading options.
+	 *
+	 * @param parallelism
+	 *            number of worker threads
+	 * @param timeout
+	 *            maximal processing time of a document
+	 * @param unit
+	 *            time unit of the timeout
+	 */
+	public BatchProcessor(int parallelism, long timeout, TimeUnit unit) {
+		this(parallelism, 2 * parallelism, timeout, unit, LoadingOptions.defaultOptions());
+	}
+
+	/**
+	 * @param parallelism
+	 *            number of worker threads
+	 * @param maxPending
+	 *            maximal number of documents taken from the input and not
+	 *            yet returned to the consumer, not less than parallelism
+	 * @param timeout
+	 *            maximal processing time of a document
+	 * @param unit
+	 *            time unit of the timeout
+	 * @param options
+	 *            options used to load every document
+	 */
+	public BatchProcessor(int parallelism, int maxPending, long timeout, TimeUnit unit, LoadingOptions options) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism should be positive");
+		}
+		if (maxPending < parallelism) {
+			throw new IllegalArgumentException("Number of pending documents can not be less than parallelism");
+		}
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("Timeout should be positive");
+		}
+		this.maxPending = maxPending;
+		this.timeoutMillis = unit.toMillis(timeout);
+		this.options = options;
+		this.workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("verapdf-batch-worker-"));
+		this.watchdog = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("verapdf-batch-watchdog-"));
+	}
+
+	/**
+	 * Processes the given files. Files are parsed lazily while the returned
+	 * iterator is consumed.
+	 *
+	 * @param files
+	 *            files to process
+	 * @param flavour
+	 *            validation flavour or {@link PDFAFlavour#NO_FLAVOUR} to
+	 *            detect it from every document
+	 * @param processor
+	 *            work performed on every parsed document
+	 * @return results in the order of the files
+	 */
+	public <R> Iterator<BatchResult<R>> process(Iterable<File> files, PDFAFlavour flavour,
+			DocumentProcessor<R> processor) {
+		return new ResultIterator<>(files.iterator(), flavour, processor);
+	}
+
+	/**
+	 * Processes the given paths in the same way as {@link #process(Iterable, PDFAFlavour, DocumentProcessor)}.
+	 */
+	public <R> Iterator<BatchResult<R>> processPaths(Iterable<Path> paths, PDFAFlavour flavour,
+			DocumentProcessor<R> processor) {
+		final Iterator<Path> pathIterator = paths.iterator();
+		Iterator<File> files = new Iterator<File>() {
+			@Override
+			public boolean hasNext() {
+				return pathIterator.hasNext();
+			}
+
+			@Override
+			public File next() {
+				return pathIterator.next().toFile();
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+		return new ResultIterator<>(files, flavour, processor);
+	}
+
+	/**
+	 * Stops all workers. Documents that are still processed are interrupted.
+	 */
+	@Override
+	public void close() {
+		this.workers.shutdownNow();
+		this.watchdog.shutdownNow();
+	}
+
+	private final class ResultIterator<R> implements Iterator<BatchResult<R>> {
+
+		private final Iterator<File> files;
+		private final PDFAFlavour flavour;
+		private final DocumentProcessor<R> processor;
+		private final Deque<DocumentTask<R>> pending = new ArrayDeque<>();
+
+		ResultIterator(Iterator<File> files, PDFAFlavour flavour, DocumentProcessor<R> processor) {
+			this.files = files;
+			this.flavour = flavour;
+			this.processor = processor;
+		}
+
+		@Override
+		public boolean hasNext() {
+			submit();
+			return !this.pending.isEmpty();
+		}
+
+		@Override
+		public BatchResult<R> next() {
+			submit();
+			DocumentTask<R> task = this.pending.poll();
+			if (task == null) {
+				throw new NoSuchElementException();
+			}
+			BatchResult<R> result = task.await();
+			submit();
+			return result;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private void submit() {
+			while (this.pending.size() < BatchProcessor.this.maxPending && this.files.hasNext()) {
+				DocumentTask<R> task = new DocumentTask<>(this.files.next(), this.flavour,
+						BatchProcessor.this.options, this.processor);
+				BatchProcessor.this.workers.execute(task);
+				this.pending.add(task);
+			}
+		}
+	}
+
+	private final class DocumentTask<R> extends FutureTask<R> {
+
+		private final File file;
+
+		DocumentTask(final File file, final PDFAFlavour flavour, final LoadingOptions options,
+				final DocumentProcessor<R> processor) {
+			super(new Callable<R>() {
+				@Override
+				public R call() throws Exception {
+					try (ModelParser parser = ModelParser.createModelWithFlavour(file, flavour, options)) {
+						return processor.process(parser);
+					}
+				}
+			});
+			this.file = file;
+		}
+
+		@Override
+		public void run() {
+			ScheduledFuture<?> timer = BatchProcessor.this.watchdog.schedule(new Runnable() {
+				@Override
+				public void run() {
+					if (cancel(true)) {
+						LOGGER.debug("Processing of " + DocumentTask.this.file + " timed out");
+					}
+				}
+			}, BatchProcessor.this.timeoutMillis, TimeUnit.MILLISECONDS);
+			try {
+				super.run();
+			} finally {
+				timer.cancel(false);
+			}
+		}
+
+		BatchResult<R> await() {
+			try {
+				return BatchResult.success(this.file, get());
+			} catch (CancellationException e) {
+				return BatchResult.timeout(this.file);
+			} catch (ExecutionException e) {
+				return BatchResult.failure(this.file, e.getCause());
+			} catch (InterruptedException e) {
+				cancel(true);
+				Thread.currentThread().interrupt();
+				return BatchResult.failure(this.file, e);
+			}
+		}
+	}
+
+	private static final class DaemonThreadFactory implements ThreadFactory {
+
+		private final String prefix;
+		private final AtomicInteger counter = new AtomicInteger();
+
+		DaemonThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, this.prefix + this.counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
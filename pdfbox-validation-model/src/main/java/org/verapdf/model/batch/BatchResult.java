@@ -0,0 +1,100 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.batch;
+
+import java.io.File;
+
+/**
+ * Outcome of processing of one document of a batch. Exactly one of result,
+ * error and timeout is reported.
+ *
+ * @param <R>
+ *            type of the result produced for a document
+ */
+public final class BatchResult<R> {
+
+	private final File file;
+	private final R result;
+	private final Throwable error;
+	private final boolean timedOut;
+
+	private BatchResult(File file, R result, Throwable error, boolean timedOut) {
+		this.file = file;
+		this.result = result;
+		this.error = error;
+		this.timedOut = timedOut;
+	}
+
+	static <R> BatchResult<R> success(File file, R result) {
+		return new BatchResult<>(file, result, null, false);
+	}
+
+	static <R> BatchResult<R> failure(File file, Throwable error) {
+		return new BatchResult<>(file, null, error, false);
+	}
+
+	static <R> BatchResult<R> timeout(File file) {
+		return new BatchResult<>(file, null, null, true);
+	}
+
+	/**
+	 * @return processed file
+	 */
+	public File getFile() {
+		return this.file;
+	}
+
+	/**
+	 * @return result of the document processor or null, if processing has
+	 *         not been completed
+	 */
+	public R getResult() {
+		return this.result;
+	}
+
+	/**
+	 * @return exception thrown during parsing or processing of the document
+	 *         or null, if there was no one
+	 */
+	public Throwable getError() {
+		return this.error;
+	}
+
+	/**
+	 * @return true if processing of the document exceeded the timeout
+	 */
+	public boolean isTimedOut() {
+		return this.timedOut;
+	}
+
+	/**
+	 * @return true if the document has been processed
+	 */
+	public boolean isSuccess() {
+		return this.error == null && !this.timedOut;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchResult [file=" + this.file + ", result=" + this.result + ", error=" + this.error
+				+ ", timedOut=" + this.timedOut + "]";
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.batch;
+
+import org.verapdf.model.ModelParser;
+
+/**
+ * Work performed by {@link BatchProcessor} on every document of a batch, e.g.
+ * validation of the model returned by {@link ModelParser#getRoot()} or
+ * feature extraction. Implementations are called concurrently from several
+ * worker threads and must not keep the parser after the call returns.
+ *
+ * @param <R>
+ *            type of the result produced for a document
+ */
+public interface DocumentProcessor<R> {
+
+	/**
+	 * Processes a single document.
+	 *
+	 * @param parser
+	 *            parser of the document, closed by the batch processor after
+	 *            this call
+	 * @return result for the document
+	 * @throws Exception
+	 *             if the document can not be processed
+	 */
+	R process(ModelParser parser) throws Exception;
+}
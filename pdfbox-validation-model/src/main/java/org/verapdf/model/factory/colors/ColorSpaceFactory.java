@@ -20,12 +20,14 @@
  */
 package org.verapdf.model.factory.colors;
 
+import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.*;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDShadingPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ColorSpacesCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.colors.*;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDShadingPattern;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDTilingPattern;
@@ -94,23 +96,7 @@ public class ColorSpaceFactory {
 		if (colorSpace == null) {
 			return null;
 		}
-		if (StaticContainers.getCachedColorSpaces().containsKey(colorSpace)) {
-			return StaticContainers.getCachedColorSpaces().get(colorSpace);
-		}
-		PDColorSpace result;
 		switch (colorSpace.getName()) {
-		case CAL_GRAY:
-			result = new PBoxPDCalGray((PDCalGray) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case CAL_RGB:
-			result = new PBoxPDCalRGB((PDCalRGB) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case DEVICE_N:
-			result = new PBoxPDDeviceN((PDDeviceN) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
 		case DEVICE_CMYK:
 			if (colorSpace.isInherited()) {
 				return PBoxPDDeviceCMYK.getInheritedInstance();
@@ -126,30 +112,63 @@ public class ColorSpaceFactory {
 				return PBoxPDDeviceGray.getInheritedInstance();
 			}
 			return PBoxPDDeviceGray.getInstance();
+		case PATTERN:
+			return getPattern(pattern, resources, document, flavour);
+		default:
+			return getCachedColorSpace(colorSpace, opm, overprintingFlag, document, flavour);
+		}
+	}
+
+	/**
+	 * Model color spaces are cached per document by identity of the COS
+	 * object of the color space. ICCBased CMYK color space is also keyed by
+	 * overprint mode and overprint flag because it can be used with
+	 * different extgstates.
+	 */
+	private static PDColorSpace getCachedColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
+			int opm, boolean overprintingFlag, PDDocument document, PDFAFlavour flavour) {
+		COSBase cosColorSpace = colorSpace.getCOSObject();
+		if (cosColorSpace == null) {
+			return createColorSpace(colorSpace, opm, overprintingFlag, document, flavour);
+		}
+		boolean isICCBasedCMYK = isICCBasedCMYK(colorSpace);
+		int keyOpm = isICCBasedCMYK ? opm : 0;
+		boolean keyOverprintingFlag = isICCBasedCMYK && overprintingFlag;
+		ColorSpacesCache cache = ValidationContext.of(document).getColorSpacesCache();
+		PDColorSpace result = cache.get(cosColorSpace, colorSpace.isInherited(), keyOpm, keyOverprintingFlag);
+		if (result == null) {
+			result = createColorSpace(colorSpace, opm, overprintingFlag, document, flavour);
+			if (result != null) {
+				cache.put(cosColorSpace, colorSpace.isInherited(), keyOpm, keyOverprintingFlag, result);
+			}
+		}
+		return result;
+	}
+
+	private static boolean isICCBasedCMYK(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace) {
+		return ICC_BASED.equals(colorSpace.getName()) && colorSpace.getNumberOfComponents() == 4;
+	}
+
+	private static PDColorSpace createColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
+			int opm, boolean overprintingFlag, PDDocument document, PDFAFlavour flavour) {
+		switch (colorSpace.getName()) {
+		case CAL_GRAY:
+			return new PBoxPDCalGray((PDCalGray) colorSpace);
+		case CAL_RGB:
+			return new PBoxPDCalRGB((PDCalRGB) colorSpace);
+		case DEVICE_N:
+			return new PBoxPDDeviceN((PDDeviceN) colorSpace, document, flavour);
 		case ICC_BASED:
 			if (colorSpace.getNumberOfComponents() != 4) {
-				result = new PBoxPDICCBased((PDICCBased) colorSpace);
-				StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-				return result;
+				return new PBoxPDICCBased((PDICCBased) colorSpace);
 			}
-			// we don't want to cache ICCBasedCMYK color space because it can be
-			// used with different extgstates
-			result = new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
-			return result;
+			return new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
 		case LAB:
-			result = new PBoxPDLab((PDLab) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
+			return new PBoxPDLab((PDLab) colorSpace);
 		case SEPARATION:
-			result = new PBoxPDSeparation((PDSeparation) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
+			return new PBoxPDSeparation((PDSeparation) colorSpace, document, flavour);
 		case INDEXED:
-			result = new PBoxPDIndexed((PDIndexed) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case PATTERN:
-			return getPattern(pattern, resources, document, flavour);
+			return new PBoxPDIndexed((PDIndexed) colorSpace, document, flavour);
 		default:
 			return null;
 		}
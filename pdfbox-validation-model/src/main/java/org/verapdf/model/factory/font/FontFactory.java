@@ -20,6 +20,7 @@
  */
 package org.verapdf.model.factory.font;
 
+import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDTrueTypeFont;
@@ -27,6 +28,8 @@ import org.apache.pdfbox.pdmodel.font.PDType1CFont;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.PDType3Font;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.impl.pb.containers.FontsCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDTrueTypeFont;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDType0Font;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDType1Font;
@@ -63,7 +66,9 @@ public final class FontFactory {
 
 	/**
 	 * Transform Apache PDFBox font representation to
-	 * VeraPDF font representation
+	 * VeraPDF font representation. Fonts are interned for the given
+	 * document by identity of the font dictionary, rendering mode and
+	 * inheritance of the font.
 	 *
 	 * @param pdfboxFont Apache PDFBox font representation
 	 * @return VeraPDF font representation
@@ -74,6 +79,35 @@ public final class FontFactory {
 		if (pdfboxFont == null) {
 			return null;
 		}
+		FontsCache cache = ValidationContext.of(document).getFontsCache();
+		COSBase resourcesKey = getResourcesKey(pdfboxFont, resources);
+		boolean inherited = pdfboxFont.isInherited();
+		PDFont font = cache.get(pdfboxFont.getCOSObject(), renderingMode, inherited, resourcesKey);
+		if (font == null) {
+			font = createFont(pdfboxFont, renderingMode, resources, document, flavour);
+			if (font != null) {
+				cache.put(pdfboxFont.getCOSObject(), renderingMode, inherited, resourcesKey, font);
+			}
+		}
+		return font;
+	}
+
+	/**
+	 * Glyph procedures of Type3 font without own resources use resources
+	 * of the content stream, other fonts do not depend on them
+	 */
+	private static COSBase getResourcesKey(org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont,
+										   PDInheritableResources resources) {
+		if (pdfboxFont instanceof PDType3Font && resources != null) {
+			PDResources currentResources = resources.getCurrentResources();
+			return currentResources == null ? null : currentResources.getCOSObject();
+		}
+		return null;
+	}
+
+	private static PDFont createFont(
+			org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont, RenderingMode renderingMode,
+			PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
 		switch (pdfboxFont.getSubType()) {
 			case TYPE_0:
 				return new PBoxPDType0Font(pdfboxFont, renderingMode, document, flavour);
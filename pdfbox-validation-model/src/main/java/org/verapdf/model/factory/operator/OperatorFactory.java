@@ -22,9 +22,12 @@ package org.verapdf.model.factory.operator;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.constants.Operators;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.model.tools.transparency.TransparencyBehaviour;
@@ -108,6 +111,8 @@ public final class OperatorFactory {
      *                     objects
      * @param resources    resources for a given stream
      * @return list of {@link Operator} objects of veraPDF-library
+     * @throws org.verapdf.model.ModelBudgetExceededException if the stream has
+     *                     more operators than the budget of the document allows
      */
     public List<Operator> operatorsFromTokens(List<Object> pdfBoxTokens,
                                               PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
@@ -115,38 +120,86 @@ public final class OperatorFactory {
         List<COSBase> arguments = new ArrayList<>();
         this.isLastParsedContainsTransparency = false;
         OperatorParser parser = new OperatorParser(document, flavour);
+        BudgetTracker budget = ValidationContext.of(document).getBudgetTracker();
 
         for (Object pdfBoxToken : pdfBoxTokens) {
-            if (pdfBoxToken instanceof COSBase) {
-                arguments.add((COSBase) pdfBoxToken);
-            } else if (pdfBoxToken instanceof org.apache.pdfbox.contentstream.operator.Operator) {
-                try {
-                    parser.parseOperator(result,
-                            (org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken,
-                            resources, arguments);
+            arguments = processToken(pdfBoxToken, result, arguments, parser, resources);
+            if (budget != null) {
+                budget.checkOperators(result.size());
+            }
+        }
+        return result;
+    }
 
-                    String parsedOperatorType = ((org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken).getName();
-                    GraphicState graphicState = parser.getGraphicState();
-                    if (PAINT_OPERATORS_WITHOUT_TEXT.containsKey(parsedOperatorType)) {
-                        isLastParsedContainsTransparency |= PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType).containsTransparency(graphicState);
-                    } else {
-                        RenderingMode renderingMode = graphicState.getRenderingMode();
-                        if (PAINT_OPERATORS_TEXT.contains(parsedOperatorType) && RENDERING_MODE.containsKey(renderingMode)) {
-                            isLastParsedContainsTransparency |= RENDERING_MODE.get(renderingMode).containsTransparency(graphicState);
-                        }
+    /**
+     * Converts pdfbox operators and arguments to the corresponding
+     * {@link Operator} objects of veraPDF-library pulling tokens one by one
+     * from the given stream parser. Unlike
+     * {@link #operatorsFromTokens(List, PDInheritableResources, PDDocument, PDFAFlavour)}
+     * the whole list of tokens of the content stream is never held in memory.
+     *
+     * @param streamParser parser of the content stream, which
+     *                     {@link PDFStreamParser#parse()} method has not been called
+     * @param resources    resources for a given stream
+     * @return list of {@link Operator} objects of veraPDF-library
+     * @throws IOException if the content stream can not be read
+     * @throws org.verapdf.model.ModelBudgetExceededException if the stream has
+     *                     more operators than the budget of the document allows
+     */
+    public List<Operator> operatorsFromParser(PDFStreamParser streamParser,
+                                              PDInheritableResources resources, PDDocument document, PDFAFlavour flavour)
+            throws IOException {
+        List<Operator> result = new ArrayList<>();
+        List<COSBase> arguments = new ArrayList<>();
+        this.isLastParsedContainsTransparency = false;
+        OperatorParser parser = new OperatorParser(document, flavour);
+        BudgetTracker budget = ValidationContext.of(document).getBudgetTracker();
+
+        Object pdfBoxToken = streamParser.parseNextToken();
+        while (pdfBoxToken != null) {
+            arguments = processToken(pdfBoxToken, result, arguments, parser, resources);
+            if (budget != null) {
+                budget.checkOperators(result.size());
+            }
+            pdfBoxToken = streamParser.parseNextToken();
+        }
+        return result;
+    }
+
+    /**
+     * @return list of arguments for the next operator
+     */
+    private List<COSBase> processToken(Object pdfBoxToken, List<Operator> result, List<COSBase> arguments,
+                                       OperatorParser parser, PDInheritableResources resources) {
+        if (pdfBoxToken instanceof COSBase) {
+            arguments.add((COSBase) pdfBoxToken);
+        } else if (pdfBoxToken instanceof org.apache.pdfbox.contentstream.operator.Operator) {
+            try {
+                parser.parseOperator(result,
+                        (org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken,
+                        resources, arguments);
+
+                String parsedOperatorType = ((org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken).getName();
+                GraphicState graphicState = parser.getGraphicState();
+                if (PAINT_OPERATORS_WITHOUT_TEXT.containsKey(parsedOperatorType)) {
+                    isLastParsedContainsTransparency |= PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType).containsTransparency(graphicState);
+                } else {
+                    RenderingMode renderingMode = graphicState.getRenderingMode();
+                    if (PAINT_OPERATORS_TEXT.contains(parsedOperatorType) && RENDERING_MODE.containsKey(renderingMode)) {
+                        isLastParsedContainsTransparency |= RENDERING_MODE.get(renderingMode).containsTransparency(graphicState);
                     }
-                } catch (CloneNotSupportedException e) {
-                    LOGGER.debug("GraphicsState clone issues for pdfBoxToken:" + pdfBoxToken);
-                    LOGGER.debug(GS_CLONE_MALFUNCTION, e);
-                } catch (IOException e) {
-                    LOGGER.debug(e);
                 }
-                arguments = new ArrayList<>();
-            } else {
-                LOGGER.debug(MSG_UNEXPECTED_OBJECT_TYPE
-                        + pdfBoxToken.getClass().getName());
+            } catch (CloneNotSupportedException e) {
+                LOGGER.debug("GraphicsState clone issues for pdfBoxToken:" + pdfBoxToken);
+                LOGGER.debug(GS_CLONE_MALFUNCTION, e);
+            } catch (IOException e) {
+                LOGGER.debug(e);
             }
+            return new ArrayList<>();
+        } else {
+            LOGGER.debug(MSG_UNEXPECTED_OBJECT_TYPE
+                    + pdfBoxToken.getClass().getName());
         }
-        return result;
+        return arguments;
     }
 }
@@ -0,0 +1,141 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.verapdf.model.pdlayer.PDColorSpace;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of model color spaces. Color spaces are keyed by identity of their
+ * COS object, so all pdfbox color space objects created for the same array
+ * share one model object. ICCBased CMYK color spaces are also keyed by the
+ * overprint mode and the overprint flag of the graphics state they are used
+ * with.
+ */
+public class ColorSpacesCache {
+
+	private final Map<Key, PDColorSpace> colorSpaces = new HashMap<>();
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param colorSpace       COS object of the pdfbox color space
+	 * @param inherited        true if the color space is inherited from the
+	 *                         page resources
+	 * @param opm              overprint mode for ICCBased CMYK, 0 otherwise
+	 * @param overprintingFlag overprint flag for ICCBased CMYK, false otherwise
+	 * @return cached color space or {@code null} if it is not cached
+	 */
+	public synchronized PDColorSpace get(COSBase colorSpace, boolean inherited, int opm, boolean overprintingFlag) {
+		PDColorSpace result = this.colorSpaces.get(new Key(colorSpace, inherited, opm, overprintingFlag));
+		if (result != null) {
+			++this.hits;
+		} else {
+			++this.misses;
+		}
+		return result;
+	}
+
+	/**
+	 * @param colorSpace       COS object of the pdfbox color space
+	 * @param inherited        true if the color space is inherited from the
+	 *                         page resources
+	 * @param opm              overprint mode for ICCBased CMYK, 0 otherwise
+	 * @param overprintingFlag overprint flag for ICCBased CMYK, false otherwise
+	 * @param modelColorSpace  model color space for the given arguments
+	 */
+	public synchronized void put(COSBase colorSpace, boolean inherited, int opm, boolean overprintingFlag,
+								 PDColorSpace modelColorSpace) {
+		this.colorSpaces.put(new Key(colorSpace, inherited, opm, overprintingFlag), modelColorSpace);
+	}
+
+	/**
+	 * @return number of requests answered from the cache
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * @return number of requests that required creation of a model color space
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return number of cached color spaces
+	 */
+	public synchronized int size() {
+		return this.colorSpaces.size();
+	}
+
+	public synchronized void clear() {
+		this.colorSpaces.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Identity of the COS object of the color space together with the
+	 * properties of the model object that do not come from it
+	 */
+	private static final class Key {
+		private final COSBase colorSpace;
+		private final boolean inherited;
+		private final int opm;
+		private final boolean overprintingFlag;
+
+		private Key(COSBase colorSpace, boolean inherited, int opm, boolean overprintingFlag) {
+			this.colorSpace = colorSpace;
+			this.inherited = inherited;
+			this.opm = opm;
+			this.overprintingFlag = overprintingFlag;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.colorSpace == that.colorSpace
+					&& this.inherited == that.inherited
+					&& this.opm == that.opm
+					&& this.overprintingFlag == that.overprintingFlag;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.colorSpace);
+			result = 31 * result + (this.inherited ? 1 : 0);
+			result = 31 * result + this.opm;
+			result = 31 * result + (this.overprintingFlag ? 1 : 0);
+			return result;
+		}
+	}
+}
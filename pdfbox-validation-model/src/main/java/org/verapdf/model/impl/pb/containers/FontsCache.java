@@ -0,0 +1,122 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.pdlayer.PDFont;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of fonts of veraPDF model. All text show operators, that use the
+ * same font dictionary with the same rendering mode, share one font object,
+ * so checks of the font are performed once. Fonts inherited from parent
+ * resources are cached apart from fonts of the current resources, as the
+ * font object reports where it comes from.
+ */
+public class FontsCache {
+
+	private final Map<Key, PDFont> fonts = new HashMap<>();
+
+	/**
+	 * @param font          dictionary of the pdfbox font
+	 * @param renderingMode text rendering mode
+	 * @param inherited     true if the font is inherited from the parent
+	 *                      resources
+	 * @param resources     resources dictionary, which the font content is
+	 *                      resolved against, or {@code null} if the font
+	 *                      does not depend on resources
+	 * @return cached font or {@code null} if it is not cached
+	 */
+	public synchronized PDFont get(COSBase font, RenderingMode renderingMode, boolean inherited, COSBase resources) {
+		return this.fonts.get(new Key(font, renderingMode, inherited, resources));
+	}
+
+	/**
+	 * @param font          dictionary of the pdfbox font
+	 * @param renderingMode text rendering mode
+	 * @param inherited     true if the font is inherited from the parent
+	 *                      resources
+	 * @param resources     resources dictionary, which the font content is
+	 *                      resolved against, or {@code null} if the font
+	 *                      does not depend on resources
+	 * @param modelFont     font of veraPDF model for the given arguments
+	 */
+	public synchronized void put(COSBase font, RenderingMode renderingMode, boolean inherited, COSBase resources,
+			PDFont modelFont) {
+		this.fonts.put(new Key(font, renderingMode, inherited, resources), modelFont);
+	}
+
+	/**
+	 * @return number of cached fonts
+	 */
+	public synchronized int size() {
+		return this.fonts.size();
+	}
+
+	public synchronized void clear() {
+		this.fonts.clear();
+	}
+
+	/**
+	 * Identities of the font and resources dictionaries together with the
+	 * rendering mode and inheritance of the font
+	 */
+	private static final class Key {
+		private final COSBase font;
+		private final RenderingMode renderingMode;
+		private final boolean inherited;
+		private final COSBase resources;
+
+		private Key(COSBase font, RenderingMode renderingMode, boolean inherited, COSBase resources) {
+			this.font = font;
+			this.renderingMode = renderingMode;
+			this.inherited = inherited;
+			this.resources = resources;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.font == that.font
+					&& this.renderingMode == that.renderingMode
+					&& this.inherited == that.inherited
+					&& this.resources == that.resources;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.font);
+			result = 31 * result + (this.renderingMode == null ? 0 : this.renderingMode.hashCode());
+			result = 31 * result + (this.inherited ? 1 : 0);
+			result = 31 * result + System.identityHashCode(this.resources);
+			return result;
+		}
+	}
+}
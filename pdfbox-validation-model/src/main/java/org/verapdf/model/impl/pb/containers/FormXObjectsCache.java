@@ -0,0 +1,137 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of parsed content streams of form XObjects. Content of the same form
+ * is parsed once per set of effective resources, no matter how many times
+ * the form is painted.
+ */
+public class FormXObjectsCache {
+
+	private final Map<Key, PBoxPDContentStream> contentStreams = new HashMap<>();
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param key       key of the form XObject stream
+	 * @param resources effective resources of the form XObject
+	 * @return parsed content stream or {@code null} if it is not cached
+	 */
+	public synchronized PBoxPDContentStream get(COSObjectKey key, PDInheritableResources resources) {
+		if (key == null) {
+			return null;
+		}
+		PBoxPDContentStream result = this.contentStreams.get(new Key(key, resources));
+		if (result != null) {
+			++this.hits;
+		} else {
+			++this.misses;
+		}
+		return result;
+	}
+
+	/**
+	 * @param key           key of the form XObject stream
+	 * @param resources     effective resources of the form XObject
+	 * @param contentStream parsed content stream of the form XObject
+	 */
+	public synchronized void put(COSObjectKey key, PDInheritableResources resources, PBoxPDContentStream contentStream) {
+		if (key != null) {
+			this.contentStreams.put(new Key(key, resources), contentStream);
+		}
+	}
+
+	/**
+	 * @return number of requests answered from the cache
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * @return number of requests that required parsing of the form content
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return number of cached content streams
+	 */
+	public synchronized int size() {
+		return this.contentStreams.size();
+	}
+
+	public synchronized void clear() {
+		this.contentStreams.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Object key of the form together with identities of the resource
+	 * dictionaries the form content is resolved against
+	 */
+	private static final class Key {
+		private final COSObjectKey objectKey;
+		private final COSBase inheritedResources;
+		private final COSBase currentResources;
+
+		private Key(COSObjectKey objectKey, PDInheritableResources resources) {
+			this.objectKey = objectKey;
+			this.inheritedResources = resources == null || resources.getInheritedResources() == null ?
+					null : resources.getInheritedResources().getCOSObject();
+			this.currentResources = resources == null || resources.getCurrentResources() == null ?
+					null : resources.getCurrentResources().getCOSObject();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.objectKey.equals(that.objectKey)
+					&& this.inheritedResources == that.inheritedResources
+					&& this.currentResources == that.currentResources;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.objectKey.hashCode();
+			result = 31 * result + System.identityHashCode(this.inheritedResources);
+			result = 31 * result + System.identityHashCode(this.currentResources);
+			return result;
+		}
+	}
+}
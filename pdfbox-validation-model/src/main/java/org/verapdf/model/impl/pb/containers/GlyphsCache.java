@@ -0,0 +1,106 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.verapdf.model.impl.pb.operator.textshow.PBGlyph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of glyphs used by text show operators. Glyph properties depend only
+ * on the font, the character code and the rendering mode, so all occurrences
+ * of the same code share one immutable glyph object.
+ */
+public class GlyphsCache {
+
+	private final Map<Key, PBGlyph> glyphs = new HashMap<>();
+
+	/**
+	 * @param font          dictionary of the pdfbox font
+	 * @param code          character code
+	 * @param renderingMode text rendering mode
+	 * @return cached glyph or {@code null} if it is not cached
+	 */
+	public synchronized PBGlyph get(COSBase font, int code, int renderingMode) {
+		return this.glyphs.get(new Key(font, code, renderingMode));
+	}
+
+	/**
+	 * @param font          dictionary of the pdfbox font
+	 * @param code          character code
+	 * @param renderingMode text rendering mode
+	 * @param glyph         glyph for the given arguments
+	 */
+	public synchronized void put(COSBase font, int code, int renderingMode, PBGlyph glyph) {
+		this.glyphs.put(new Key(font, code, renderingMode), glyph);
+	}
+
+	/**
+	 * @return number of cached glyphs
+	 */
+	public synchronized int size() {
+		return this.glyphs.size();
+	}
+
+	public synchronized void clear() {
+		this.glyphs.clear();
+	}
+
+	/**
+	 * Identity of the font dictionary together with the character code and
+	 * the rendering mode
+	 */
+	private static final class Key {
+		private final COSBase font;
+		private final int code;
+		private final int renderingMode;
+
+		private Key(COSBase font, int code, int renderingMode) {
+			this.font = font;
+			this.code = code;
+			this.renderingMode = renderingMode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.font == that.font
+					&& this.code == that.code
+					&& this.renderingMode == that.renderingMode;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.font);
+			result = 31 * result + this.code;
+			result = 31 * result + this.renderingMode;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+/**
+ * Open addressing hash set of primitive long values. Keeps values without
+ * boxing, so that large sets of object keys take a few bytes per key.
+ */
+public final class LongHashSet {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final long EMPTY = 0L;
+
+	private long[] values;
+	private boolean containsEmpty = false;
+	private int size = 0;
+
+	public LongHashSet() {
+		this.values = new long[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * @param value value to add
+	 * @return true if the set did not contain the value
+	 */
+	public boolean add(long value) {
+		if (value == EMPTY) {
+			boolean added = !this.containsEmpty;
+			this.containsEmpty = true;
+			if (added) {
+				++this.size;
+			}
+			return added;
+		}
+		int index = indexOf(this.values, value);
+		if (this.values[index] == value) {
+			return false;
+		}
+		this.values[index] = value;
+		++this.size;
+		if (2 * this.size > this.values.length) {
+			rehash();
+		}
+		return true;
+	}
+
+	/**
+	 * @param value value to check
+	 * @return true if the set contains the value
+	 */
+	public boolean contains(long value) {
+		if (value == EMPTY) {
+			return this.containsEmpty;
+		}
+		return this.values[indexOf(this.values, value)] == value;
+	}
+
+	/**
+	 * @return number of values in the set
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	private void rehash() {
+		long[] newValues = new long[this.values.length * 2];
+		for (long value : this.values) {
+			if (value != EMPTY) {
+				newValues[indexOf(newValues, value)] = value;
+			}
+		}
+		this.values = newValues;
+	}
+
+	/**
+	 * @return index of the given value or of the empty slot where it should
+	 *         be placed
+	 */
+	private static int indexOf(long[] values, long value) {
+		int mask = values.length - 1;
+		int index = hash(value) & mask;
+		while (values[index] != EMPTY && values[index] != value) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private static int hash(long value) {
+		long h = value * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
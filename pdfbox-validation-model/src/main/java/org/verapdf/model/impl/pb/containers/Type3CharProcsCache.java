@@ -0,0 +1,112 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.verapdf.model.pdlayer.PDContentStream;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of glyph procedures of Type3 fonts. Content streams of the glyphs
+ * keep their parsed operators and transparency flags, so every glyph
+ * procedure of the font is parsed at most once, whatever rendering modes
+ * and text show operators the font is used with.
+ */
+public class Type3CharProcsCache {
+
+	private final Map<Key, Map<String, PDContentStream>> charProcs = new HashMap<>();
+
+	/**
+	 * @param font      dictionary of the pdfbox Type3 font
+	 * @param resources effective resources of the glyph procedures
+	 * @return content streams of glyph procedures by glyph name or
+	 *         {@code null} if they are not cached
+	 */
+	public synchronized Map<String, PDContentStream> get(COSBase font, PDInheritableResources resources) {
+		return this.charProcs.get(new Key(font, resources));
+	}
+
+	/**
+	 * @param font      dictionary of the pdfbox Type3 font
+	 * @param resources effective resources of the glyph procedures
+	 * @param charProcs content streams of glyph procedures by glyph name
+	 */
+	public synchronized void put(COSBase font, PDInheritableResources resources, Map<String, PDContentStream> charProcs) {
+		this.charProcs.put(new Key(font, resources), charProcs);
+	}
+
+	/**
+	 * @return number of cached fonts
+	 */
+	public synchronized int size() {
+		return this.charProcs.size();
+	}
+
+	public synchronized void clear() {
+		this.charProcs.clear();
+	}
+
+	/**
+	 * Identities of the font dictionary and the resource dictionaries the
+	 * glyph procedures are resolved against
+	 */
+	private static final class Key {
+		private final COSBase font;
+		private final COSBase inheritedResources;
+		private final COSBase currentResources;
+
+		private Key(COSBase font, PDInheritableResources resources) {
+			this.font = font;
+			this.inheritedResources = resources == null ? null : getDictionary(resources.getInheritedResources());
+			this.currentResources = resources == null ? null : getDictionary(resources.getCurrentResources());
+		}
+
+		private static COSBase getDictionary(PDResources resources) {
+			return resources == null ? null : resources.getCOSObject();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.font == that.font
+					&& this.inheritedResources == that.inheritedResources
+					&& this.currentResources == that.currentResources;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.font);
+			result = 31 * result + System.identityHashCode(this.inheritedResources);
+			result = 31 * result + System.identityHashCode(this.currentResources);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,310 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFontLike;
+import org.apache.pdfbox.preflight.font.container.FontContainer;
+import org.verapdf.model.impl.pb.pd.signatures.SignaturesByteRanges;
+import org.verapdf.model.tools.BudgetTracker;
+
+import java.util.*;
+
+/**
+ * Containers shared by model objects of a single document. A context is
+ * owned by the {@link org.verapdf.model.ModelParser} of the document and is
+ * reached through the pdfbox document that every model object already holds,
+ * so that several documents can be validated at the same time without
+ * sharing state. Model of a single document is built by one thread at a
+ * time.
+ * <p>
+ * Contexts are never created implicitly. The owner registers a context with
+ * {@link #create(PDDocument)} and has to {@link #release(PDDocument)} it,
+ * as the cached model objects reference the document and keep it reachable
+ * until then. Request of the context of a document, which is not registered,
+ * fails, so model objects of a released document are never detached
+ * silently. Model objects built without a document work with a new empty
+ * context on every request, so they share no caches.
+ */
+public final class ValidationContext {
+
+	private static final Map<PDDocument, ValidationContext> CONTEXTS = new IdentityHashMap<>();
+
+	//ModelParser, budget checks of model objects
+	private final BudgetTracker budgetTracker;
+
+	//PBoxPDSeparation
+	private final Map<String, SeparationFingerprint> separations = new HashMap<>();
+	private final Set<String> inconsistentSeparations = new HashSet<>();
+
+	//ColorSpaceFactory
+	private final ColorSpacesCache colorSpacesCache = new ColorSpacesCache();
+
+	//FileSpecificationKeysHelper
+	private LongHashSet fileSpecificationKeys;
+
+	//PBoxPDXForm
+	private final FormXObjectsCache formXObjectsCache = new FormXObjectsCache();
+
+	//PBOpTextShow
+	private final GlyphsCache glyphsCache = new GlyphsCache();
+
+	//FontFactory
+	private final FontsCache fontsCache = new FontsCache();
+
+	//PBoxPDType3Font
+	private final Type3CharProcsCache type3CharProcsCache = new Type3CharProcsCache();
+
+	//ModelParser, XMPChecker, PBoxPDMetadata
+	private final XMPMetadataCache xmpMetadataCache;
+
+	//PBoxPDSignature
+	private SignaturesByteRanges signaturesByteRanges;
+
+	//FontHelper
+	private final Map<COSBase, FontContainer<? extends PDFontLike>> fontContainers =
+			Collections.synchronizedMap(new IdentityHashMap<COSBase, FontContainer<? extends PDFontLike>>());
+
+	private ValidationContext(BudgetTracker budgetTracker) {
+		this.budgetTracker = budgetTracker;
+		this.xmpMetadataCache = new XMPMetadataCache(budgetTracker);
+	}
+
+	/**
+	 * Creates a new empty context for the given document, replacing the
+	 * previous one if any.
+	 *
+	 * @param document pdfbox document
+	 * @return created context
+	 */
+	public static ValidationContext create(PDDocument document) {
+		return create(document, null);
+	}
+
+	/**
+	 * Creates a new empty context for the given document, replacing the
+	 * previous one if any.
+	 *
+	 * @param document      pdfbox document
+	 * @param budgetTracker tracker of the model budget of the document, may
+	 *                      be null
+	 * @return created context
+	 */
+	public static ValidationContext create(PDDocument document, BudgetTracker budgetTracker) {
+		ValidationContext context = new ValidationContext(budgetTracker);
+		if (document != null) {
+			synchronized (CONTEXTS) {
+				CONTEXTS.put(document, context);
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Returns context registered for the given document. For a null document
+	 * a new context is returned without registration, so every such call
+	 * returns a new context.
+	 *
+	 * @param document pdfbox document or null
+	 * @return context of the document
+	 * @throws IllegalStateException if no context is registered for the
+	 *                               document
+	 */
+	public static ValidationContext of(PDDocument document) {
+		if (document == null) {
+			return new ValidationContext(null);
+		}
+		synchronized (CONTEXTS) {
+			ValidationContext context = CONTEXTS.get(document);
+			if (context == null) {
+				throw new IllegalStateException("Validation context of the document is not created or is released");
+			}
+			return context;
+		}
+	}
+
+	/**
+	 * Releases context of the given document with all its containers.
+	 *
+	 * @param document pdfbox document
+	 */
+	public static void release(PDDocument document) {
+		if (document != null) {
+			synchronized (CONTEXTS) {
+				CONTEXTS.remove(document);
+			}
+		}
+	}
+
+	/**
+	 * @return number of registered contexts
+	 */
+	static int getRegisteredCount() {
+		synchronized (CONTEXTS) {
+			return CONTEXTS.size();
+		}
+	}
+
+	/**
+	 * Registers separation color space with the given colorant name. The
+	 * first separation with the name defines the expected alternate color
+	 * space and tint transform, any other one is compared with them.
+	 *
+	 * @param colorantName  colorant name of the separation
+	 * @param alternate     direct alternate color space of the separation
+	 * @param tintTransform direct tint transform of the separation
+	 */
+	public synchronized void addSeparation(String colorantName, COSBase alternate, COSBase tintTransform) {
+		if (this.inconsistentSeparations.contains(colorantName)) {
+			return;
+		}
+		SeparationFingerprint fingerprint = new SeparationFingerprint(alternate, tintTransform);
+		SeparationFingerprint canonical = this.separations.get(colorantName);
+		if (canonical == null) {
+			this.separations.put(colorantName, fingerprint);
+		} else if (!canonical.equals(fingerprint)) {
+			this.inconsistentSeparations.add(colorantName);
+			this.separations.remove(colorantName);
+		}
+	}
+
+	/**
+	 * @param colorantName colorant name
+	 * @return true if separations with the given colorant name have
+	 *         different tint transforms or alternate color spaces
+	 */
+	public synchronized boolean isInconsistentSeparation(String colorantName) {
+		return this.inconsistentSeparations.contains(colorantName);
+	}
+
+	/**
+	 * @return tracker of the model budget of the document or null, if the
+	 *         context is created without one
+	 */
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	public ColorSpacesCache getColorSpacesCache() {
+		return this.colorSpacesCache;
+	}
+
+	/**
+	 * @return keys of associated files of the document or {@code null} if
+	 *         they are not collected yet
+	 */
+	public synchronized LongHashSet getFileSpecificationKeys() {
+		return this.fileSpecificationKeys;
+	}
+
+	/**
+	 * Stores collected keys of associated files unless another thread has
+	 * already stored them.
+	 *
+	 * @param fileSpecificationKeys collected keys of associated files
+	 * @return keys of associated files stored in the context
+	 */
+	public synchronized LongHashSet setFileSpecificationKeysIfAbsent(LongHashSet fileSpecificationKeys) {
+		if (this.fileSpecificationKeys == null) {
+			this.fileSpecificationKeys = fileSpecificationKeys;
+		}
+		return this.fileSpecificationKeys;
+	}
+
+	public FormXObjectsCache getFormXObjectsCache() {
+		return this.formXObjectsCache;
+	}
+
+	public GlyphsCache getGlyphsCache() {
+		return this.glyphsCache;
+	}
+
+	public FontsCache getFontsCache() {
+		return this.fontsCache;
+	}
+
+	public Type3CharProcsCache getType3CharProcsCache() {
+		return this.type3CharProcsCache;
+	}
+
+	public XMPMetadataCache getXMPMetadataCache() {
+		return this.xmpMetadataCache;
+	}
+
+	/**
+	 * @param document document of the context
+	 * @return actual byte ranges of signatures of the document
+	 */
+	public synchronized SignaturesByteRanges getSignaturesByteRanges(PDDocument document) {
+		if (this.signaturesByteRanges == null) {
+			this.signaturesByteRanges = new SignaturesByteRanges(document);
+		}
+		return this.signaturesByteRanges;
+	}
+
+	/**
+	 * @return font containers of the document keyed by identity of the font
+	 *         dictionary
+	 */
+	public Map<COSBase, FontContainer<? extends PDFontLike>> getFontContainers() {
+		return this.fontContainers;
+	}
+
+	/**
+	 * Alternate color space and tint transform of a separation. Objects are
+	 * compared by {@link Object#equals(Object)} of the COS layer, that is by
+	 * value for names and numbers and by identity for dictionaries, arrays
+	 * and streams.
+	 */
+	private static final class SeparationFingerprint {
+		private final COSBase alternate;
+		private final COSBase tintTransform;
+
+		private SeparationFingerprint(COSBase alternate, COSBase tintTransform) {
+			this.alternate = alternate;
+			this.tintTransform = tintTransform;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof SeparationFingerprint)) {
+				return false;
+			}
+			SeparationFingerprint that = (SeparationFingerprint) o;
+			return equals(this.alternate, that.alternate) && equals(this.tintTransform, that.tintTransform);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.alternate == null ? 0 : this.alternate.hashCode();
+			result = 31 * result + (this.tintTransform == null ? 0 : this.tintTransform.hashCode());
+			return result;
+		}
+
+		private static boolean equals(COSBase first, COSBase second) {
+			return first == null ? second == null : first.equals(second);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import com.adobe.xmp.XMPException;
+import com.adobe.xmp.impl.VeraPDFMeta;
+import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.model.tools.BudgetTracker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Cache of parsed XMP metadata streams. Every metadata stream of a document
+ * is decoded and parsed once, no matter how many checks, features and fixes
+ * read it. Problems of parsing are cached as well and are reported to every
+ * caller.
+ * <p>
+ * Cached metadata is shared by all readers of the document and must not be
+ * modified. The metadata fixer parses a copy of its own.
+ */
+public class XMPMetadataCache {
+
+	private final Map<COSStream, Entry> metadata = new IdentityHashMap<>();
+	private final BudgetTracker budgetTracker;
+
+	/**
+	 * @param budgetTracker tracker charged by decoding of metadata streams,
+	 *                      may be null
+	 */
+	public XMPMetadataCache(BudgetTracker budgetTracker) {
+		this.budgetTracker = budgetTracker;
+	}
+
+	/**
+	 * @param stream metadata stream
+	 * @return parsed metadata of the stream
+	 * @throws IOException  if the stream can not be decoded
+	 * @throws XMPException if the stream content is not a valid XMP packet
+	 */
+	public synchronized VeraPDFMeta getMetadata(COSStream stream) throws IOException, XMPException {
+		Entry entry = this.metadata.get(stream);
+		if (entry == null) {
+			entry = parse(stream);
+			this.metadata.put(stream, entry);
+		}
+		return entry.getMetadata();
+	}
+
+	/**
+	 * @return number of parsed streams
+	 */
+	public synchronized int size() {
+		return this.metadata.size();
+	}
+
+	public synchronized void clear() {
+		this.metadata.clear();
+	}
+
+	private Entry parse(COSStream stream) {
+		try (InputStream is = BudgetTracker.track(this.budgetTracker, stream.getUnfilteredStream())) {
+			return new Entry(VeraPDFMeta.parse(is), null, null);
+		} catch (IOException e) {
+			return new Entry(null, e, null);
+		} catch (XMPException e) {
+			return new Entry(null, null, e);
+		}
+	}
+
+	/**
+	 * Result of parsing of a single stream
+	 */
+	private static final class Entry {
+		private final VeraPDFMeta metadata;
+		private final IOException ioException;
+		private final XMPException xmpException;
+
+		private Entry(VeraPDFMeta metadata, IOException ioException, XMPException xmpException) {
+			this.metadata = metadata;
+			this.ioException = ioException;
+			this.xmpException = xmpException;
+		}
+
+		private VeraPDFMeta getMetadata() throws IOException, XMPException {
+			if (this.ioException != null) {
+				throw this.ioException;
+			}
+			if (this.xmpException != null) {
+				throw this.xmpException;
+			}
+			return this.metadata;
+		}
+	}
+}
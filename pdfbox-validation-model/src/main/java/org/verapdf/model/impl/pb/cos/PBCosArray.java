@@ -81,11 +81,11 @@ public class PBCosArray extends PBCosObject implements CosArray {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (link.equals(ELEMENTS)) {
             return this.getElements();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     /**
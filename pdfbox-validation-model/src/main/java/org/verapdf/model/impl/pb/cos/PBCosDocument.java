@@ -32,7 +32,7 @@ import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
 import org.verapdf.model.coslayer.CosXRef;
 import org.verapdf.model.impl.pb.pd.PBoxPDDocument;
-import org.verapdf.model.tools.FileSpecificationKeysHelper;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.tools.XMPChecker;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -74,7 +74,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	private final boolean isOptionalContentPresent;
 	private final boolean isLinearised;
 	private final int postEOFDataSize;
-	private final Boolean doesInfoMatchXMP;
+	private Boolean doesInfoMatchXMP;
 	private final String firstPageID;
 	private final String lastID;
 	private final boolean needsRendering;
@@ -90,9 +90,9 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	public PBCosDocument(PDDocument pdDocument, PDFAFlavour flavour) {
 		this(pdDocument.getDocument(), flavour);
 		this.pdDocument = pdDocument;
-		if (flavour.getPart() == PDFAFlavour.Specification.ISO_19005_3) {
-			FileSpecificationKeysHelper.registerFileSpecificationKeys(pdDocument);
-		}
+		// checked before validation, so that later fixes of metadata do not affect it
+		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(pdDocument.getDocument(),
+				ValidationContext.of(pdDocument).getXMPMetadataCache());
 	}
 
 	/**
@@ -129,7 +129,6 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 			this.firstPageID = null;
 		}
 		this.isLinearised = cosDocument.getTrailer() != cosDocument.getLastTrailer() && cosDocument.isLinearized();
-		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(cosDocument);
 		this.needsRendering = this.getNeedsRenderingValue();
 	}
 
@@ -248,6 +247,10 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	 */
 	@Override
 	public Boolean getdoesInfoMatchXMP() {
+		if (this.doesInfoMatchXMP == null) {
+			this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP((COSDocument) this.baseObject,
+					ValidationContext.of(this.pdDocument).getXMPMetadataCache());
+		}
 		return this.doesInfoMatchXMP;
 	}
 
@@ -314,7 +317,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case TRAILER:
 			return this.getTrailer();
@@ -327,7 +330,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 		case EMBEDDED_FILES:
 			return this.getEmbeddedFiles();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -383,13 +386,21 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	/**
 	 * all indirect objects referred from the xref table
 	 */
-	private List<CosIndirect> getIndirectObjects() {
+	private PBCosIndirectList getIndirectObjects() {
 		List<COSObject> objects = ((COSDocument) this.baseObject).getObjects();
-		List<CosIndirect> list = new ArrayList<>(objects.size());
-		for (COSObject object : objects) {
-			list.add(new PBCosIndirect(object, this.pdDocument, this.flavour));
-		}
-		return Collections.unmodifiableList(list);
+		return new PBCosIndirectList(objects, this.pdDocument, this.flavour, getBudgetTracker());
+	}
+
+	/**
+	 * Iterates indirect objects referred from the xref table in chunks, so
+	 * that no more than {@code chunkSize} of their model objects are created
+	 * at once.
+	 *
+	 * @param chunkSize maximal number of objects in one chunk, must be positive
+	 * @return iterable over consecutive chunks of the indirect objects
+	 */
+	public Iterable<List<CosIndirect>> getIndirectObjectsChunks(int chunkSize) {
+		return getIndirectObjects().chunks(chunkSize);
 	}
 
 	/**
@@ -28,8 +28,8 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosFileSpecification;
 import org.verapdf.model.external.EmbeddedFile;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
 import org.verapdf.model.impl.pb.external.PBoxEmbeddedFile;
+import org.verapdf.model.tools.FileSpecificationKeysHelper;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.util.ArrayList;
@@ -82,8 +82,10 @@ public class PBCosFileSpecification extends PBCosDict implements CosFileSpecific
 
 	@Override
 	public Boolean getisAssociatedFile() {
-		return Boolean.valueOf(this.baseObject != null
-				&& StaticContainers.getFileSpecificationKeys().contains(this.baseObject.getKey()));
+		// associated files are collected for PDF/A-3 documents only
+		return Boolean.valueOf(this.baseObject != null && this.flavour != null
+				&& this.flavour.getPart() == PDFAFlavour.Specification.ISO_19005_3
+				&& FileSpecificationKeysHelper.isAssociatedFile(this.document, this.baseObject.getKey()));
 	}
 
 	@Override
@@ -93,11 +95,11 @@ public class PBCosFileSpecification extends PBCosDict implements CosFileSpecific
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (EF.equals(link)) {
 			return this.getEFFile();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<EmbeddedFile> getEFFile() {
@@ -70,12 +70,12 @@ public class PBCosIndirect extends PBCosObject implements CosIndirect {
 	}
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
 			String link) {
         if (DIRECT_OBJECT.equals(link)) {
             return parseDirectObject();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
 
     }
 
@@ -0,0 +1,129 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.cos;
+
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.coslayer.CosIndirect;
+import org.verapdf.model.tools.BudgetTracker;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.*;
+
+/**
+ * Read-only list of indirect objects of the document. {@link PBCosIndirect}
+ * wrappers are created on access and are not kept by the list, so nothing is
+ * resolved or allocated for objects that are never read. Wrappers are
+ * constructed for the budget tracker of the document, so every access is
+ * charged like an object returned by a link.
+ * <p>
+ * Huge documents can be processed in bounded chunks with {@link #chunks(int)}.
+ */
+public final class PBCosIndirectList extends AbstractList<CosIndirect> implements RandomAccess {
+
+	private final List<COSObject> objects;
+	private final PDDocument document;
+	private final PDFAFlavour flavour;
+	private final BudgetTracker budgetTracker;
+
+	/**
+	 * @param objects       pdfbox indirect objects
+	 * @param document      pdfbox document of the objects
+	 * @param flavour       validation flavour
+	 * @param budgetTracker tracker of the document, may be null
+	 */
+	public PBCosIndirectList(List<COSObject> objects, PDDocument document, PDFAFlavour flavour,
+							 BudgetTracker budgetTracker) {
+		this.objects = objects;
+		this.document = document;
+		this.flavour = flavour;
+		this.budgetTracker = budgetTracker;
+	}
+
+	@Override
+	public CosIndirect get(int index) {
+		BudgetTracker previous = BudgetTracker.beginConstruction(this.budgetTracker);
+		try {
+			return new PBCosIndirect(this.objects.get(index), this.document, this.flavour);
+		} finally {
+			BudgetTracker.endConstruction(previous);
+		}
+	}
+
+	@Override
+	public int size() {
+		return this.objects.size();
+	}
+
+	/**
+	 * Splits the list into consecutive chunks. Wrappers of a chunk are
+	 * created when the chunk is requested from the iterator, so at most one
+	 * chunk is held by this method at any time.
+	 *
+	 * @param chunkSize maximal number of objects in one chunk, must be positive
+	 * @return iterable over the chunks of this list
+	 */
+	public Iterable<List<CosIndirect>> chunks(final int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive, but got " + chunkSize);
+		}
+		return new Iterable<List<CosIndirect>>() {
+			@Override
+			public Iterator<List<CosIndirect>> iterator() {
+				return new ChunkIterator(chunkSize);
+			}
+		};
+	}
+
+	private final class ChunkIterator implements Iterator<List<CosIndirect>> {
+
+		private final int chunkSize;
+		private int position = 0;
+
+		private ChunkIterator(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.position < size();
+		}
+
+		@Override
+		public List<CosIndirect> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int end = Math.min(size(), this.position + this.chunkSize);
+			List<CosIndirect> chunk = new ArrayList<>(end - this.position);
+			for (int i = this.position; i < end; ++i) {
+				chunk.add(get(i));
+			}
+			this.position = end;
+			return Collections.unmodifiableList(chunk);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -26,10 +26,13 @@ import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.tools.BudgetTracked;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.visitor.cos.pb.PBCosVisitor;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Current class is representation of CosObject interface of abstract model.
@@ -37,7 +40,7 @@ import java.io.IOException;
  *
  * @author Evgeniy Muravitskiy
  */
-public class PBCosObject extends GenericModelObject implements CosObject {
+public class PBCosObject extends GenericModelObject implements CosObject, BudgetTracked {
 
     /** Type name for PBCosObject */
     private static final Logger LOGGER = Logger.getLogger(PBCosObject.class);
@@ -45,6 +48,15 @@ public class PBCosObject extends GenericModelObject implements CosObject {
 	public static final int MAX_NUMBER_OF_ELEMENTS = 1;
 
 	protected final COSBase baseObject;
+	private static final BudgetTracker.LinkSource<PBCosObject> LINKS = new BudgetTracker.LinkSource<PBCosObject>() {
+		@Override
+		public List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(PBCosObject object, String link) {
+			return object.getLinkedObjectsImpl(link);
+		}
+	};
+
+	// charged before the rest of the object is constructed
+	private final BudgetTracker budgetTracker = BudgetTracker.objectConstructed();
 
     protected PBCosObject(final COSBase baseObject, final String type) {
 		super(type);
@@ -78,4 +90,25 @@ public class PBCosObject extends GenericModelObject implements CosObject {
         }
         return null;
     }
+
+	@Override
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	/**
+	 * Returns objects of the given link, see
+	 * {@link BudgetTracker#link(BudgetTracked, String, BudgetTracker.LinkSource)}.
+	 */
+	@Override
+	public final List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(String link) {
+		return BudgetTracker.link(this, link, LINKS);
+	}
+
+	/**
+	 * Actual implementation of {@link #getLinkedObjects(String)}
+	 */
+	protected List<? extends org.verapdf.model.baselayer.Object> getLinkedObjectsImpl(String link) {
+		return super.getLinkedObjects(link);
+	}
 }
@@ -127,12 +127,12 @@ public class PBCosStream extends PBCosDict implements CosStream {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case FILTERS:
 			return this.getFilters();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
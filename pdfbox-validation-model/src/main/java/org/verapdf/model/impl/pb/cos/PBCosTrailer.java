@@ -66,11 +66,11 @@ public class PBCosTrailer extends PBCosDict implements CosTrailer {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (CATALOG.equals(link)) {
             return this.getCatalog();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosIndirect> getCatalog() {
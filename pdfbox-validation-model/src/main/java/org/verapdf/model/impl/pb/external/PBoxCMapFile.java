@@ -26,6 +26,7 @@ import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
 import org.verapdf.model.external.CMapFile;
+import org.verapdf.model.tools.BudgetTracker;
 
 import java.io.IOException;
 
@@ -62,7 +63,7 @@ public class PBoxCMapFile extends PBoxExternal implements CMapFile {
     @Override
 	public Long getWMode() {
         try {
-            CMap map = new CMapParser().parse(fileStream.getUnfilteredStream());
+            CMap map = new CMapParser().parse(BudgetTracker.track(getBudgetTracker(), fileStream.getUnfilteredStream()));
             return Long.valueOf(map.getWMode());
         } catch (IOException e) {
             LOGGER.debug("Could not parse CMap", e);
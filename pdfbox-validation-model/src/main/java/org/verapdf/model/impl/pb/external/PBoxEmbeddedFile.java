@@ -27,8 +27,11 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.model.ModelBudgetExceededException;
+import org.verapdf.model.ModelConstructionInterruptedException;
 import org.verapdf.model.ModelParser;
 import org.verapdf.model.external.EmbeddedFile;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.pdfa.PDFAParser;
 import org.verapdf.pdfa.PDFAValidator;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -70,7 +73,7 @@ public class PBoxEmbeddedFile extends PBoxExternal implements EmbeddedFile {
 	public Boolean getisValidPDFA12() {
 		if (this.stream != null) {
 			try {
-				InputStream unfilteredStream = stream.getUnfilteredStream();
+				InputStream unfilteredStream = BudgetTracker.track(getBudgetTracker(), stream.getUnfilteredStream());
 				unfilteredStream.mark(Integer.MAX_VALUE);
 				try (PDFAParser parser1b = ModelParser.createModelWithFlavour(unfilteredStream,
 						PDFAFlavour.PDFA_1_B)) {
@@ -87,6 +90,8 @@ public class PBoxEmbeddedFile extends PBoxExternal implements EmbeddedFile {
 					ValidationResult result2b = validator2b.validate(parser2b);
 					return Boolean.valueOf(result2b.isCompliant());
 				}
+			} catch (ModelBudgetExceededException | ModelConstructionInterruptedException e) {
+				throw e;
 			} catch (Throwable e) {
 				LOGGER.debug("Exception during validation of embedded file", e);
 				return Boolean.FALSE;
@@ -21,6 +21,10 @@
 package org.verapdf.model.impl.pb.external;
 
 import org.verapdf.model.GenericModelObject;
+import org.verapdf.model.tools.BudgetTracked;
+import org.verapdf.model.tools.BudgetTracker;
+
+import java.util.List;
 
 /**
  * Parent type for all external objects embedded into the PDF document
@@ -28,10 +32,40 @@ import org.verapdf.model.GenericModelObject;
  * @author Evgeniy Muravitskiy
  */
 public class PBoxExternal extends GenericModelObject implements
-        org.verapdf.model.external.External {
+        org.verapdf.model.external.External, BudgetTracked {
+
+	private static final BudgetTracker.LinkSource<PBoxExternal> LINKS = new BudgetTracker.LinkSource<PBoxExternal>() {
+		@Override
+		public List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(PBoxExternal object, String link) {
+			return object.getLinkedObjectsImpl(link);
+		}
+	};
+
+	// charged before the rest of the object is constructed
+	private final BudgetTracker budgetTracker = BudgetTracker.objectConstructed();
 
 	protected PBoxExternal(String type) {
 		super(type);
 	}
 
+	@Override
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	/**
+	 * Returns objects of the given link, see
+	 * {@link BudgetTracker#link(BudgetTracked, String, BudgetTracker.LinkSource)}.
+	 */
+	@Override
+	public final List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(String link) {
+		return BudgetTracker.link(this, link, LINKS);
+	}
+
+	/**
+	 * Actual implementation of {@link #getLinkedObjects(String)}
+	 */
+	protected List<? extends org.verapdf.model.baselayer.Object> getLinkedObjectsImpl(String link) {
+		return super.getLinkedObjects(link);
+	}
 }
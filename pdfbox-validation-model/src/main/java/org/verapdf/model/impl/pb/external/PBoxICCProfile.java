@@ -26,9 +26,11 @@ import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.external.ICCProfile;
+import org.verapdf.model.tools.BudgetTracker;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * Embedded ICC profile
@@ -55,7 +57,6 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
     public static final int SUBVERSION_BYTE = 9;
 
     private byte[] profileHeader;
-    private InputStream profileStream;
     private Long dictionaryNumberOfColors;
     private boolean isValid = true;
 
@@ -64,13 +65,12 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
         super(type);
 
         try {
-            this.profileStream = profileStream.getUnfilteredStream();
             this.dictionaryNumberOfColors = profileStream.getLong(COSName.N);
             if(this.dictionaryNumberOfColors == -1) {
                 this.dictionaryNumberOfColors = null;
             }
 
-            initializeProfileHeader();
+            initializeProfileHeader(profileStream);
         } catch (IOException e) {
             this.isValid = false;
             if(this.profileHeader == null) {
@@ -79,19 +79,35 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
         }
     }
 
-    private void initializeProfileHeader() throws IOException {
-        int available = this.profileStream.available();
-        int size = available > HEADER_LENGTH ? HEADER_LENGTH : available;
-        if(size != HEADER_LENGTH) {
+    private void initializeProfileHeader(COSStream stream) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        int size = 0;
+        try (InputStream headerStream = BudgetTracker.track(getBudgetTracker(), openHeaderStream(stream))) {
+            while (size < HEADER_LENGTH) {
+                int read = headerStream.read(header, size, HEADER_LENGTH - size);
+                if (read == -1) {
+                    break;
+                }
+                size += read;
+            }
+        }
+        if (size != HEADER_LENGTH) {
             this.isValid = false;
+            header = Arrays.copyOf(header, size);
         }
+        this.profileHeader = header;
+    }
 
-        this.profileHeader = new byte[size];
-        this.profileStream.mark(size);
-        this.profileStream.read(this.profileHeader, 0, size);
-        this.profileStream.reset();
-		// TODO : finalize it correct, when object will destroy
-		this.profileStream.close();
+    /**
+     * Opens decoded profile data for reading of the header only. Raw and
+     * Flate encoded profiles without decode parameters, which covers almost
+     * all embedded profiles, are inflated on demand, so only the beginning of
+     * the stream is ever decoded. Other filter chains fall back to the full
+     * decoding provided by {@link COSStream#getUnfilteredStream()}.
+     */
+    private static InputStream openHeaderStream(COSStream stream) throws IOException {
+        InputStream decoded = BudgetTracker.openIncrementally(stream);
+        return decoded != null ? decoded : stream.getUnfilteredStream();
     }
 
     /**
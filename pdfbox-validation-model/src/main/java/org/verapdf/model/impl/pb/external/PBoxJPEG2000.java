@@ -33,9 +33,14 @@ import org.verapdf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
 
 /**
  * @author Maksim Bezrukov
@@ -56,10 +61,15 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	protected static final PDColorSpace DEFAULT_COLOR_SPACE = null;
 	private static final byte[] sign = { 0x00, 0x00, 0x00, 0x0C, 0x6A, 0x50, 0x20, 0x20, 0x0D, 0x0A, -0x79, 0x0A };
 
-	private static final byte[] header = { 0x6A, 0x70, 0x32, 0x68 };
-	private static final byte[] ihdr = { 0x69, 0x68, 0x64, 0x72 };
-	private static final byte[] bpcc = { 0x62, 0x70, 0x63, 0x63 };
-	private static final byte[] colr = { 0x63, 0x6F, 0x6C, 0x72 };
+	private static final int HEADER_BOX = 0x6A703268;
+	private static final int IHDR_BOX = 0x69686472;
+	private static final int BPCC_BOX = 0x62706363;
+	private static final int COLR_BOX = 0x636F6C72;
+
+	/** Size of the read buffer; boxes before the header are skipped, not read */
+	private static final int READ_BUFFER_SIZE = 1024;
+	/** Number of leading profile bytes needed to obtain its color space */
+	private static final int PROFILE_PREFIX_LENGTH = 20;
 
 	private final Long nrColorChannels;
 	private final Long nrColorSpaceSpecs;
@@ -94,18 +104,18 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	public static PBoxJPEG2000 fromStream(InputStream stream, PDDocument document, PDFAFlavour flavour) {
 		Builder builder = new Builder();
 
-		byte[] signArray = new byte[12];
+		BoxReader reader = new BoxReader(stream);
 		try {
 			// Check if the stream starts with valid jp2 signature
-			if (stream.read(signArray) != 12 || !isValidSignature(signArray)) {
+			if (!reader.read(sign.length) || !reader.matches(sign)) {
 				LOGGER.debug("File contains wrong signature");
 				return builder.build();
 			}
 			// Finding the beginning of the header box content
-			long headerLeft = findHeader(stream);
+			long headerLeft = findHeader(reader);
 
 			if (headerLeft >= 0) {
-				parseHeader(stream, headerLeft, builder, document, flavour);
+				parseHeader(reader, headerLeft, builder, document, flavour);
 			}
 
 		} catch (IOException e) {
@@ -114,7 +124,7 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		return builder.build();
 	}
 
-	private static void parseHeader(final InputStream stream, final long headerLeft, final Builder builder,
+	private static void parseHeader(final BoxReader reader, final long headerLeft, final Builder builder,
 			PDDocument document, PDFAFlavour flavour) throws IOException {
 		long leftInHeader = headerLeft;
 		boolean isHeaderReachEnd = leftInHeader == 0;
@@ -129,51 +139,33 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace = null;
 
 		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
+			if (!reader.nextBox()) {
 				break;
 			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					break;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
+			long length = reader.getBoxLength();
 			if (length < 0 || (!isHeaderReachEnd && (length == 0 || length > leftInHeader))) {
 				break;
 			}
-			long leftInBox = length - skipped;
+			long leftInBox = length - reader.getBoxHeaderLength();
 
-			if (matches(tbox, ihdr)) {
+			int type = reader.getBoxType();
+			if (type == IHDR_BOX) {
 				if (leftInBox != 14 && length != 0) {
 					LOGGER.debug("Image header content does not contain 14 bytes");
 					break;
 				}
-				skipBytes(stream, 8);
-				byte[] nc = new byte[2];
-				if (stream.read(nc) != 2) {
-					LOGGER.debug("Can not read number of components");
+				if (!reader.read(14)) {
+					LOGGER.debug("Can not read image header content");
 					break;
 				}
-				long ncColorChannels = convertArrayToLong(nc);
+				long ncColorChannels = reader.toLong(8, 2);
 				builder.setNrColorChannels(Long.valueOf(ncColorChannels));
-				byte[] bpc = new byte[1];
-				if (stream.read(bpc) != 1) {
-					LOGGER.debug("Can not read bitDepth");
-					break;
-				}
-				long bitDepth = bpc[0] + 1;
+				long bitDepth = reader.getByte(10) + 1;
 				builder.setBitDepth(Long.valueOf(bitDepth));
-				skipBytes(stream, 3);
-			} else if (matches(tbox, bpcc)) {
+			} else if (type == BPCC_BOX) {
 				builder.setBpccBoxPresent(Boolean.TRUE);
-				skipBytes(stream, leftInBox);
-			} else if (matches(tbox, colr)) {
+				reader.skip(leftInBox);
+			} else if (type == COLR_BOX) {
 				if (leftInBox < 3) {
 					LOGGER.debug("Founded 'colr' box with length less than 3");
 					break;
@@ -183,22 +175,15 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 				} else {
 					++nrColorSpaceSpecs;
 				}
-				byte[] meth = new byte[1];
-				if (stream.read(meth) != 1) {
-					LOGGER.debug("Can not read METH");
+				if (!reader.read(3)) {
+					LOGGER.debug("Can not read METH, PREC and APPROX");
 					break;
 				}
-				long methValue = convertArrayToLong(meth);
+				long methValue = reader.toLong(0, 1);
 				if (firstColrMethod == null) {
 					firstColrMethod = Long.valueOf(methValue);
 				}
-				skipBytes(stream, 1);
-				byte[] approx = new byte[1];
-				if (stream.read(approx) != 1) {
-					LOGGER.debug("Can not read APPROX");
-					break;
-				}
-				long approxValue = convertArrayToLong(approx);
+				long approxValue = reader.toLong(2, 1);
 				if (approxValue == 1) {
 					if (nrColorSpacesWithApproxField == null) {
 						nrColorSpacesWithApproxField = Long.valueOf(1L);
@@ -215,13 +200,12 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 						LOGGER.debug("Founded 'colr' box with meth value 1 and length less than 7");
 						break;
 					}
-					byte[] enumCS = new byte[4];
-					if (stream.read(enumCS) != 4) {
+					if (!reader.read(4)) {
 						LOGGER.debug("Can not read EnumCS");
 						break;
 					}
 					read += 4;
-					long enumCSValue = convertArrayToLong(enumCS);
+					long enumCSValue = reader.toLong(0, 4);
 					if (firstColrEnumCS == null) {
 						firstColrEnumCS = Long.valueOf(enumCSValue);
 						firstColorSpace = createColorSpaceFromEnumValue(firstColrEnumCS.longValue(), document);
@@ -232,24 +216,31 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 						colorSpace = createColorSpaceFromEnumValue(colrEnumCS.longValue(), document);
 					}
 				} else if (methValue == 2) {
-					int profileLength = (int) (leftInBox - read);
-					byte[] profile = new byte[profileLength];
-					if (stream.read(profile) != profileLength) {
-						LOGGER.debug("Can not read Profile");
-						break;
-					}
-					read += profileLength;
-					if (doesFirstContainsColorSpace == null) {
-						firstColorSpace = createColorSpaceFromProfile(profile, document);
-						doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
-					}
-					if (approxValue == 1 && colorSpace == null) {
-						colorSpace = createColorSpaceFromProfile(profile, document);
+					boolean isFirstRequired = doesFirstContainsColorSpace == null;
+					boolean isApproxRequired = approxValue == 1 && colorSpace == null;
+					// the profile is materialized only if its color space is used
+					if (isFirstRequired || isApproxRequired) {
+						long profileLength = leftInBox - read;
+						PDICCBased profileColorSpace;
+						try {
+							profileColorSpace = createColorSpaceFromProfile(reader, profileLength, document);
+						} catch (EOFException e) {
+							LOGGER.debug("Can not read Profile", e);
+							break;
+						}
+						read += profileLength;
+						if (isFirstRequired) {
+							firstColorSpace = profileColorSpace;
+							doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
+						}
+						if (isApproxRequired) {
+							colorSpace = profileColorSpace;
+						}
 					}
 				}
-				skipBytes(stream, leftInBox - read);
+				reader.skip(leftInBox - read);
 			} else {
-				skipBytes(stream, leftInBox);
+				reader.skip(leftInBox);
 			}
 
 			leftInHeader -= length;
@@ -316,15 +307,26 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		}
 	}
 
-	private static PDICCBased createColorSpaceFromProfile(byte[] profile, PDDocument document) throws IOException {
-		if (profile.length < 20) {
+	/**
+	 * Creates ICCBased color space from the profile at the current position of
+	 * the reader. The profile data is copied straight into the profile stream
+	 * and the reader is left at the end of the profile.
+	 *
+	 * @throws EOFException if the image stream ends before the profile does
+	 */
+	private static PDICCBased createColorSpaceFromProfile(BoxReader reader, long profileLength, PDDocument document)
+			throws IOException {
+		if (profileLength < PROFILE_PREFIX_LENGTH) {
+			if (!reader.skip(profileLength)) {
+				throw new EOFException();
+			}
 			return null;
 		}
+		if (!reader.read(PROFILE_PREFIX_LENGTH)) {
+			throw new EOFException();
+		}
 
-		String type = new String(profile, 16, 4);
-		COSArray array = new COSArray();
-		array.add(COSName.ICCBASED);
-		PDStream stream = new PDStream(document, new ByteArrayInputStream(profile));
+		String type = reader.toString(16, 4);
 		int nrOfComp;
 		switch (type) {
 		case "GRAY":
@@ -384,87 +386,54 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			break;
 		default:
 			LOGGER.debug("Unknown color space signature in ICC Profile of image. Current signature: " + type);
+			if (!reader.skip(profileLength - PROFILE_PREFIX_LENGTH)) {
+				throw new EOFException();
+			}
 			return null;
 		}
+		BoundedInputStream profileRest = reader.limit(profileLength - PROFILE_PREFIX_LENGTH);
+		InputStream profile = new SequenceInputStream(
+				new ByteArrayInputStream(reader.copy(PROFILE_PREFIX_LENGTH)), profileRest);
+		COSArray array = new COSArray();
+		array.add(COSName.ICCBASED);
+		PDStream stream = new PDStream(document, profile);
+		if (profileRest.getLeft() != 0) {
+			throw new EOFException();
+		}
 		stream.getStream().setInt(COSName.N, nrOfComp);
 		array.add(stream);
 		return new PDICCBased(array);
 	}
 
 	/**
-	 * Finds the beginning of the header box content and returns its left length
+	 * Finds the beginning of the header box content and returns its left
+	 * length. Boxes preceding the header are skipped without being read.
 	 *
-	 * @param stream
-	 *            image stream
+	 * @param reader
+	 *            image box reader
 	 * @return left length of the header box or -1 if it has not been found and
 	 *         0 if it ends at the end of the stream
 	 * @throws IOException
 	 */
-	private static long findHeader(InputStream stream) throws IOException {
+	private static long findHeader(BoxReader reader) throws IOException {
 		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
+			if (!reader.nextBox()) {
 				return -1L;
 			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					return -1L;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
-			long left = length - skipped;
+			long length = reader.getBoxLength();
+			long left = length - reader.getBoxHeaderLength();
 			// Check is current box a header
-			if (matches(tbox, header)) {
+			if (reader.getBoxType() == HEADER_BOX) {
 				if (length == 0) {
 					return 0;
 				}
 				return left <= 0 ? -1L : left;
 			} else if (length == 0 || left < 0) {
 				return -1L;
-			} else {
-				skipBytes(stream, left);
-			}
-		}
-	}
-
-	private static void skipBytes(InputStream stream, long skipNumber) throws IOException {
-		long skippedBytes = stream.skip(skipNumber);
-		if (skippedBytes != skipNumber && stream.available() != 0) {
-			throw new IllegalStateException("Skipped less bytes that needed.");
-		}
-	}
-
-	private static long convertArrayToLong(byte[] toConvert) {
-		if (toConvert.length < 1 || toConvert.length > 8) {
-			throw new IllegalArgumentException("Length of the converting byte array can not be greater than 8");
-		}
-		long res = 0;
-		for (byte aToConvert : toConvert) {
-			res <<= 8;
-			res += aToConvert & 0xff;
-		}
-		return res;
-	}
-
-	private static boolean isValidSignature(byte[] signature) {
-		return matches(signature, sign);
-	}
-
-	private static boolean matches(byte[] source, byte[] match) {
-		if (match.length != source.length) {
-			return false;
-		}
-		for (int i = 0; i < match.length; ++i) {
-			if (source[i] != match[i]) {
-				return false;
+			} else if (!reader.skip(left)) {
+				return -1L;
 			}
 		}
-		return true;
 	}
 
 	public PDColorSpace getImageColorSpace() {
@@ -562,4 +531,191 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		}
 
 	}
+
+	/**
+	 * Sequential reader of jp2 boxes. All fixed size fields are read into one
+	 * reusable buffer and box contents that are not needed are skipped.
+	 */
+	private static final class BoxReader {
+
+		private final InputStream stream;
+		private final byte[] buffer = new byte[PROFILE_PREFIX_LENGTH];
+
+		private long boxLength;
+		private int boxType;
+		private int boxHeaderLength;
+
+		BoxReader(InputStream stream) {
+			this.stream = new BufferedInputStream(stream, READ_BUFFER_SIZE);
+		}
+
+		/**
+		 * Reads the header of the next box
+		 *
+		 * @return false if the stream ends before the box header does
+		 */
+		boolean nextBox() throws IOException {
+			if (!read(8)) {
+				return false;
+			}
+			this.boxLength = toLong(0, 4);
+			this.boxType = (int) toLong(4, 4);
+			this.boxHeaderLength = 8;
+			if (this.boxLength == 1) {
+				if (!read(8)) {
+					return false;
+				}
+				this.boxLength = toLong(0, 8);
+				this.boxHeaderLength = 16;
+			}
+			return true;
+		}
+
+		long getBoxLength() {
+			return this.boxLength;
+		}
+
+		int getBoxType() {
+			return this.boxType;
+		}
+
+		int getBoxHeaderLength() {
+			return this.boxHeaderLength;
+		}
+
+		/**
+		 * Reads exactly {@code count} bytes to the start of the buffer
+		 *
+		 * @return false if the stream ends before
+		 */
+		boolean read(int count) throws IOException {
+			int offset = 0;
+			while (offset < count) {
+				int read = this.stream.read(this.buffer, offset, count - offset);
+				if (read == -1) {
+					return false;
+				}
+				offset += read;
+			}
+			return true;
+		}
+
+		/**
+		 * Skips {@code count} bytes of the stream
+		 *
+		 * @return false if the stream ends before
+		 */
+		boolean skip(long count) throws IOException {
+			long left = count;
+			while (left > 0) {
+				long skipped = this.stream.skip(left);
+				if (skipped <= 0) {
+					if (this.stream.read() == -1) {
+						return false;
+					}
+					skipped = 1;
+				}
+				left -= skipped;
+			}
+			return true;
+		}
+
+		BoundedInputStream limit(long count) {
+			return new BoundedInputStream(this.stream, count);
+		}
+
+		long toLong(int offset, int length) {
+			long res = 0;
+			for (int i = offset; i < offset + length; ++i) {
+				res <<= 8;
+				res += this.buffer[i] & 0xFF;
+			}
+			return res;
+		}
+
+		int getByte(int offset) {
+			return this.buffer[offset];
+		}
+
+		String toString(int offset, int length) {
+			return new String(this.buffer, offset, length);
+		}
+
+		byte[] copy(int length) {
+			return Arrays.copyOf(this.buffer, length);
+		}
+
+		boolean matches(byte[] match) {
+			for (int i = 0; i < match.length; ++i) {
+				if (this.buffer[i] != match[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Input stream that ends after the given number of bytes of the
+	 * underlying stream. Closing it does not close the underlying stream.
+	 */
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		private long left;
+
+		BoundedInputStream(InputStream in, long length) {
+			super(in);
+			this.left = length;
+		}
+
+		long getLeft() {
+			return this.left;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.left <= 0) {
+				return -1;
+			}
+			int res = super.read();
+			if (res != -1) {
+				--this.left;
+			}
+			return res;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.left <= 0) {
+				return -1;
+			}
+			int res = super.read(b, off, (int) Math.min(len, this.left));
+			if (res != -1) {
+				this.left -= res;
+			}
+			return res;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long res = super.skip(Math.min(n, this.left));
+			this.left -= res;
+			return res;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), this.left);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+			// underlying stream is owned by the box reader
+		}
+	}
 }
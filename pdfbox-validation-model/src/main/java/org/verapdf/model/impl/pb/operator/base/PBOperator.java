@@ -34,16 +34,27 @@ import org.verapdf.model.coslayer.CosReal;
 import org.verapdf.model.impl.pb.cos.PBCosNumber;
 import org.verapdf.model.impl.pb.cos.PBCosReal;
 import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.BudgetTracked;
+import org.verapdf.model.tools.BudgetTracker;
 
 /**
  * Base class for operator layer
  * 
  * @author Timur Kamalov
  */
-public abstract class PBOperator extends GenericModelObject implements Operator {
+public abstract class PBOperator extends GenericModelObject implements Operator, BudgetTracked {
 
     public static final int MAX_NUMBER_OF_ELEMENTS = 1;
     protected final List<COSBase> arguments;
+	private static final BudgetTracker.LinkSource<PBOperator> LINKS = new BudgetTracker.LinkSource<PBOperator>() {
+		@Override
+		public List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(PBOperator object, String link) {
+			return object.getLinkedObjectsImpl(link);
+		}
+	};
+
+	// charged before the rest of the object is constructed
+	private final BudgetTracker budgetTracker = BudgetTracker.objectConstructed();
 
     protected PBOperator(List<COSBase> arguments, final String opType) {
 		super(opType);
@@ -112,4 +123,24 @@ public abstract class PBOperator extends GenericModelObject implements Operator
 		}
 	}
 
+	@Override
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	/**
+	 * Returns objects of the given link, see
+	 * {@link BudgetTracker#link(BudgetTracked, String, BudgetTracker.LinkSource)}.
+	 */
+	@Override
+	public final List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(String link) {
+		return BudgetTracker.link(this, link, LINKS);
+	}
+
+	/**
+	 * Actual implementation of {@link #getLinkedObjects(String)}
+	 */
+	protected List<? extends org.verapdf.model.baselayer.Object> getLinkedObjectsImpl(String link) {
+		return super.getLinkedObjects(link);
+	}
 }
@@ -54,14 +54,14 @@ public class PBOpColor extends PBOpSetColor implements OpColor {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         switch (link) {
             case COLOR_SPACE:
                 return getColorSpace();
             case PATTERN_NAME:
                 return getPatternName();
             default:
-                return super.getLinkedObjects(link);
+                return super.getLinkedObjectsImpl(link);
         }
     }
 
@@ -60,11 +60,11 @@ public class PBOp_gs extends PBOpGeneralGS implements Op_gs {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (EXT_G_STATE.equals(link)) {
             return this.getExtGState();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDExtGState> getExtGState() {
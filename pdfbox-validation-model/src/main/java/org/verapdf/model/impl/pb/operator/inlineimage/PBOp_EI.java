@@ -65,12 +65,12 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (INLINE_IMAGE.equals(link)) {
 			return this.getInlineImage();
 		}
 
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<PDInlineImage> getInlineImage() {
@@ -58,12 +58,12 @@ public class PBOp_ID extends PBOpInlineImage implements Op_ID {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(
+	protected List<? extends Object> getLinkedObjectsImpl(
 			String link) {
 		if (INLINE_IMAGE_DICTIONARY.equals(link)) {
 			return this.getInlineImageDictionary();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosDict> getInlineImageDictionary() {
@@ -48,14 +48,14 @@ public class PBOp_BMC extends PBOpMarkedContent implements Op_BMC {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         switch (link) {
             case TAG:
                 return this.getTag();
             case PROPERTIES:
                 return this.getPropertiesDict();
             default:
-                return super.getLinkedObjects(link);
+                return super.getLinkedObjectsImpl(link);
         }
     }
 
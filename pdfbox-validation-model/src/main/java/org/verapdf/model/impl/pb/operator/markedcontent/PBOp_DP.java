@@ -44,7 +44,7 @@ public class PBOp_DP extends PBOpMarkedContent implements Op_DP {
     }
 
 	@Override
-	public List<? extends Object> getLinkedObjects(
+	protected List<? extends Object> getLinkedObjectsImpl(
 			String link) {
 		switch (link) {
 			case TAG:
@@ -52,7 +52,7 @@ public class PBOp_DP extends PBOpMarkedContent implements Op_DP {
 			case PROPERTIES:
 				return this.getPropertiesDict();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
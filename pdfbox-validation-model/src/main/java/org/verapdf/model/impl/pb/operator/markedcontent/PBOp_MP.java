@@ -48,12 +48,12 @@ public class PBOp_MP extends PBOpMarkedContent implements Op_MP {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
             String link) {
         if (TAG.equals(link)) {
             return this.getTag();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
 	@Override
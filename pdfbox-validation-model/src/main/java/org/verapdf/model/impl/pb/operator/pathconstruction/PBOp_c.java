@@ -42,12 +42,12 @@ public class PBOp_c extends PBOpPathConstruction implements Op_c {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
             String link) {
         if (CONTROL_POINTS.equals(link)) {
             return this.getControlPoints();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getControlPoints() {
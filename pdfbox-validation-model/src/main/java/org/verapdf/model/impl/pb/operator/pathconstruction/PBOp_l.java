@@ -46,11 +46,11 @@ public class PBOp_l extends PBOpPathConstruction implements Op_l {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (POINT.equals(link)) {
             return this.getPoint();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getPoint() {
@@ -46,11 +46,11 @@ public class PBOp_m_moveto extends PBOpPathConstruction implements Op_m_moveto {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (POINT.equals(link)) {
             return this.getPoint();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getPoint() {
@@ -47,11 +47,11 @@ public class PBOp_re extends PBOpPathConstruction implements Op_re {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
        if(RECT_BOX.equals(link)) {
            return this.getRectBox();
        }
-       return super.getLinkedObjects(link);
+       return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getRectBox() {
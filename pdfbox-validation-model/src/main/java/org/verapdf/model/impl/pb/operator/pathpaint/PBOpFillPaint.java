@@ -42,12 +42,12 @@ public abstract class PBOpFillPaint extends PBOpPathPaint {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
             String link) {
         if (FILL_CS.equals(link)) {
             return this.getFillCS();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
 }
@@ -46,11 +46,11 @@ public class PBOp_cm extends PBOpSpecialGS implements Op_cm {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (MATRIX.equals(link)) {
             return this.getMatrix();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getMatrix() {
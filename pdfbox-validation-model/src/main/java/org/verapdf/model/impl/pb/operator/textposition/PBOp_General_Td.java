@@ -48,14 +48,14 @@ public abstract class PBOp_General_Td extends PBOpTextPosition {
     }
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case VERTICAL_OFFSET:
 				return this.getVerticalOffset();
 			case HORIZONTAL_OFFSET:
 				return this.getHorizontalOffset();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -30,7 +30,7 @@ public class PBCIDGlyph extends PBGlyph implements CIDGlyph {
 
 	public final static String CID_GLYPH_TYPE = "CIDGlyph";
 
-	private int CID;
+	private final int CID;
 
 	public PBCIDGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode, int CID, int renderingMode) {
 		super(glyphPresent, widthsConsistent, font, glyphCode, CID_GLYPH_TYPE, renderingMode);
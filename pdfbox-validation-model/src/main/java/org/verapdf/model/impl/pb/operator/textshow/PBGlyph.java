@@ -28,13 +28,16 @@ import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.operator.Glyph;
 import org.verapdf.model.tools.IDGenerator;
+import org.verapdf.model.tools.BudgetTracked;
+import org.verapdf.model.tools.BudgetTracker;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * @author Timur Kamalov
  */
-public class PBGlyph extends GenericModelObject implements Glyph {
+public class PBGlyph extends GenericModelObject implements Glyph, BudgetTracked {
 
 	private static final Logger LOGGER = Logger.getLogger(PBGlyph.class);
 
@@ -44,11 +47,20 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 
 	private final String id;
 
-	private Boolean glyphPresent;
-	private Boolean widthsConsistent;
-	private String name;
-	private String toUnicode;
-	private Long renderingMode;
+	private final Boolean glyphPresent;
+	private final Boolean widthsConsistent;
+	private final String name;
+	private final String toUnicode;
+	private final Long renderingMode;
+	private static final BudgetTracker.LinkSource<PBGlyph> LINKS = new BudgetTracker.LinkSource<PBGlyph>() {
+		@Override
+		public List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(PBGlyph object, String link) {
+			return object.getLinkedObjectsImpl(link);
+		}
+	};
+
+	// charged before the rest of the object is constructed
+	private final BudgetTracker budgetTracker = BudgetTracker.objectConstructed();
 
 	public PBGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode, int renderingMode) {
 		this(glyphPresent, widthsConsistent, font, glyphCode, GLYPH_TYPE, renderingMode);
@@ -60,29 +72,34 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 		this.widthsConsistent = widthsConsistent;
 		this.renderingMode = Long.valueOf(renderingMode);
 
+		this.name = getName(font, glyphCode);
+		this.toUnicode = getToUnicode(font, glyphCode);
+		this.id = IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
+	}
+
+	private static String getName(PDFont font, int glyphCode) {
 		if (font instanceof PDSimpleFont) {
 			Encoding encoding = ((PDSimpleFont) font).getEncoding();
-			this.name = encoding == null ? null : encoding.getName(glyphCode);
+			return encoding == null ? null : encoding.getName(glyphCode);
 		} else if (font instanceof PDType0Font){
 			try {
 				if (((PDType0Font) font).codeToGID(glyphCode) == 0) {
-					this.name = ".notdef";
-				} else {
-					this.name = null;
+					return ".notdef";
 				}
 			} catch (IOException e) {
 				LOGGER.debug("Can't convert code to glyph",e);
-				this.name = null;
 			}
 		}
+		return null;
+	}
 
+	private static String getToUnicode(PDFont font, int glyphCode) {
 		try {
-			this.toUnicode = font.toUnicode(glyphCode);
+			return font.toUnicode(glyphCode);
 		} catch (IOException e) {
 			LOGGER.debug(e);
-			this.toUnicode = null;
+			return null;
 		}
-		this.id = IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
 	}
 
 	@Override
@@ -139,4 +156,25 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 		// actual text obtaining should be implemented
 		return Boolean.FALSE;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	/**
+	 * Returns objects of the given link, see
+	 * {@link BudgetTracker#link(BudgetTracked, String, BudgetTracker.LinkSource)}.
+	 */
+	@Override
+	public final List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(String link) {
+		return BudgetTracker.link(this, link, LINKS);
+	}
+
+	/**
+	 * Actual implementation of {@link #getLinkedObjects(String)}
+	 */
+	protected List<? extends org.verapdf.model.baselayer.Object> getLinkedObjectsImpl(String link) {
+		return super.getLinkedObjects(link);
+	}
+}
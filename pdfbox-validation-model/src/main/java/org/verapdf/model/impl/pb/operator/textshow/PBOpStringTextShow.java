@@ -50,12 +50,12 @@ public abstract class PBOpStringTextShow extends PBOpTextShow {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
             String link) {
         if (SHOW_STRING.equals(link)) {
             return this.getShowString();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosString> getShowString() {
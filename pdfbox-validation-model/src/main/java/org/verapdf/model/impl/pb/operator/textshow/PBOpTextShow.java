@@ -46,6 +46,8 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.model.factory.font.FontFactory;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.GlyphsCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.operator.OpTextShow;
 import org.verapdf.model.pdlayer.PDColorSpace;
@@ -94,7 +96,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case FONT:
 			return this.getFont();
@@ -105,7 +107,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 		case STROKE_COLOR_SPACE:
 			return this.getStrokeColorSpace();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -136,12 +138,14 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 
 	private List<PBGlyph> getUsedGlyphs() {
 		org.apache.pdfbox.pdmodel.font.PDFont font = getFontFromResources();
-		FontContainer<? extends PDFontLike> fontContainer = FontHelper.getFontContainer(font);
+		FontContainer<? extends PDFontLike> fontContainer = FontHelper.getFontContainer(font, this.document);
 
 		if (fontContainer == null) {
 			return Collections.emptyList();
 		}
-        boolean fontProgramIsInvalid = font.isDamaged() || fontProgramIsNull(font);
+		GlyphsCache glyphsCache = ValidationContext.of(this.document).getGlyphsCache();
+		int renderingMode = this.state.getRenderingMode().intValue();
+		Boolean fontProgramIsInvalid = null;
 
 		List<PBGlyph> res = new ArrayList<>();
 		List<byte[]> strings = getStrings(this.arguments);
@@ -149,24 +153,14 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 			try (InputStream inputStream = new ByteArrayInputStream(string)) {
 				while (inputStream.available() > 0) {
 					int code = font.readCode(inputStream);
-					Boolean glyphPresent = null;
-					Boolean widthsConsistent = null ;
-					if(!fontProgramIsInvalid) {
-						// every font contains notdef glyph. But if we call method
-						// of font container we can't distinguish case of code 0
-						// and glyph that is not present indeed.
-						glyphPresent = code == 0 ? true :
-								Boolean.valueOf(fontContainer.hasGlyph(code));
-						widthsConsistent = Boolean.valueOf(this.checkWidths(code));
-					}
-					PBGlyph glyph;
-					if (font.getSubType().equals(FontFactory.TYPE_0)) {
-						int CID = ((PDType0Font) font).codeToCID(code);
-						glyph = new PBCIDGlyph(glyphPresent, widthsConsistent, font, code, CID,
-								this.state.getRenderingMode().intValue());
-					} else {
-						glyph = new PBGlyph(glyphPresent, widthsConsistent, font, code,
-								this.state.getRenderingMode().intValue());
+					PBGlyph glyph = glyphsCache.get(font.getCOSObject(), code, renderingMode);
+					if (glyph == null) {
+						if (fontProgramIsInvalid == null) {
+							fontProgramIsInvalid = Boolean.valueOf(font.isDamaged() || fontProgramIsNull(font));
+						}
+						glyph = createGlyph(font, fontContainer, fontProgramIsInvalid.booleanValue(),
+								code, renderingMode);
+						glyphsCache.put(font.getCOSObject(), code, renderingMode, glyph);
 					}
 					res.add(glyph);
 				}
@@ -178,6 +172,26 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 		return res;
 	}
 
+	private PBGlyph createGlyph(org.apache.pdfbox.pdmodel.font.PDFont font,
+								FontContainer<? extends PDFontLike> fontContainer,
+								boolean fontProgramIsInvalid, int code, int renderingMode) throws IOException {
+		Boolean glyphPresent = null;
+		Boolean widthsConsistent = null;
+		if (!fontProgramIsInvalid) {
+			// every font contains notdef glyph. But if we call method
+			// of font container we can't distinguish case of code 0
+			// and glyph that is not present indeed.
+			glyphPresent = code == 0 ? true :
+					Boolean.valueOf(fontContainer.hasGlyph(code));
+			widthsConsistent = Boolean.valueOf(this.checkWidths(code));
+		}
+		if (font.getSubType().equals(FontFactory.TYPE_0)) {
+			int CID = ((PDType0Font) font).codeToCID(code);
+			return new PBCIDGlyph(glyphPresent, widthsConsistent, font, code, CID, renderingMode);
+		}
+		return new PBGlyph(glyphPresent, widthsConsistent, font, code, renderingMode);
+	}
+
 	private List<PDColorSpace> getFillColorSpace() {
 		if (this.fillCS == null) {
 			this.fillCS = parseFillColorSpace();
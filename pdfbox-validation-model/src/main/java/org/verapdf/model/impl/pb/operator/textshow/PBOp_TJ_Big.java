@@ -55,12 +55,12 @@ public class PBOp_TJ_Big extends PBOpTextShow implements Op_TJ_Big {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(
+    protected List<? extends Object> getLinkedObjectsImpl(
             String link) {
         if (SPECIAL_STRINGS.equals(link)) {
             return this.getSpecialStrings();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosArray> getSpecialStrings() {
@@ -41,11 +41,11 @@ public class PBOp_Tc extends PBOpTextState implements Op_Tc {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (CHAR_SPACING.equals(link)) {
 			return this.getCharSpacing();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosNumber> getCharSpacing() {
@@ -47,14 +47,14 @@ public class PBOp_Tf extends PBOpTextState implements Op_Tf {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case SIZE:
 				return this.getSize();
 			case FONT_NAME:
 				return this.getFontName();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
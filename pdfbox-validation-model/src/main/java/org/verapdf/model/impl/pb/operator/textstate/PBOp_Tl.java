@@ -41,11 +41,11 @@ public class PBOp_Tl extends PBOpTextState implements Op_Tl {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (LEADING.equals(link)) {
 			return this.getLeading();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosNumber> getLeading() {
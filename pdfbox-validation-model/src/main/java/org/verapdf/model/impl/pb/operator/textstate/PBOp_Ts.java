@@ -41,11 +41,11 @@ public class PBOp_Ts extends PBOpTextState implements Op_Ts {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (RISE.equals(link)) {
 			return this.getRise();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosNumber> getRise() {
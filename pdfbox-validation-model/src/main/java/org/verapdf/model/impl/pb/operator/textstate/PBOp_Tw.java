@@ -41,11 +41,11 @@ public class PBOp_Tw extends PBOpTextState implements Op_Tw {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (WORD_SPACE.equals(link)) {
 			return this.getWordSpace();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosNumber> getWordSpace() {
@@ -45,11 +45,11 @@ public class PBOp_Tz extends PBOpTextState implements Op_Tz {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (SCALE.equals(link)) {
             return this.getScale();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<CosNumber> getScale() {
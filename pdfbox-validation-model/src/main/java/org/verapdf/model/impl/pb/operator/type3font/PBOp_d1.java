@@ -41,11 +41,11 @@ public class PBOp_d1 extends PBOpType3Font implements Op_d1 {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (CONTROL_POINTS.equals(link)) {
 			return this.getControlPoints();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosNumber> getControlPoints() {
@@ -68,11 +68,11 @@ public class PBOp_Do extends PBOperator implements Op_Do {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (X_OBJECT.equals(link)) {
             return this.getXObject();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
 	/**
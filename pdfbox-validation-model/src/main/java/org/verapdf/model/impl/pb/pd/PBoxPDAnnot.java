@@ -78,7 +78,6 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 	private final PDFAFlavour flavour;
 
 	private List<PDContentStream> appearance = null;
-	private boolean containsTransparency = false;
 
 	public PBoxPDAnnot(PDAnnotation annot, PDResources pageResources, PDDocument document, PDFAFlavour flavour) {
 		super(annot, ANNOTATION_TYPE);
@@ -231,7 +230,7 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case ADDITIONAL_ACTION:
 			return this.getAdditionalActions();
@@ -244,7 +243,7 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 		case APPEARANCE:
 			return this.getAppearance();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -340,13 +339,6 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 		return this.appearance;
 	}
 
-	boolean isContainsTransparency() {
-		if (this.appearance == null) {
-			parseAppearance();
-		}
-		return this.containsTransparency;
-	}
-
 	private void parseAppearance() {
 		PDAppearanceDictionary appearanceDictionary = ((PDAnnotation) this.simplePDObject).getAppearance();
 		if (appearanceDictionary != null) {
@@ -386,11 +378,7 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 		if (toAdd != null) {
 			PDInheritableResources resources = PDInheritableResources.getInstance(this.pageResources,
 					toAdd.getResources());
-			PBoxPDContentStream stream = new PBoxPDContentStream(toAdd, resources, this.document, this.flavour);
-			this.containsTransparency |= stream.isContainsTransparency();
-			org.apache.pdfbox.pdmodel.graphics.form.PDGroup group = toAdd.getGroup();
-			this.containsTransparency |= group != null && COSName.TRANSPARENCY.equals(group.getSubType());
-			list.add(stream);
+			list.add(new PBoxPDContentStream(toAdd, resources, this.document, this.flavour));
 		}
 	}
 }
@@ -26,8 +26,10 @@ import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.pdlayer.PDContentStream;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -51,6 +53,7 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 	private final PDInheritableResources resources;
 	private List<Operator> operators = null;
 	private boolean containsTransparency = false;
+	private int formXObjectDepth = 0;
 
     private final PDDocument document;
     private final PDFAFlavour flavour;
@@ -65,11 +68,11 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 	}
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (OPERATORS.equals(link)) {
             return this.getOperators();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<Operator> getOperators() {
@@ -89,17 +92,35 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 		return containsTransparency;
 	}
 
+	/**
+	 * @return nesting depth of Form XObjects in this content stream, counting
+	 *         the form of this stream, if the stream belongs to a form
+	 */
+	public int getFormXObjectDepth() {
+		return this.formXObjectDepth;
+	}
+
+	/**
+	 * @param formXObjectDepth nesting depth of Form XObjects in this content
+	 *                         stream
+	 */
+	public void setFormXObjectDepth(int formXObjectDepth) {
+		this.formXObjectDepth = formXObjectDepth;
+	}
+
 	private void parseOperators() {
 		try {
 			COSStream cStream = this.contentStream.getContentStream();
 			if (cStream != null) {
+				BudgetTracker budgetTracker = ValidationContext.of(this.document).getBudgetTracker();
+				if (budgetTracker != null) {
+					budgetTracker.chargeDecoded(cStream);
+				}
 				PDFStreamParser streamParser = new PDFStreamParser(
 						cStream, true);
-				streamParser.parse();
 				OperatorFactory operatorFactory = new OperatorFactory();
-				List<Operator> result = operatorFactory.operatorsFromTokens(
-						streamParser.getTokens(),
-						this.resources, this.document, this.flavour);
+				List<Operator> result = operatorFactory.operatorsFromParser(
+						streamParser, this.resources, this.document, this.flavour);
 
 				this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
 				this.operators = Collections.unmodifiableList(result);
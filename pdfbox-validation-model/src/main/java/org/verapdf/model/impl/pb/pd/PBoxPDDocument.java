@@ -23,7 +23,6 @@ package org.verapdf.model.impl.pb.pd;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
-import org.apache.pdfbox.pdmodel.PDPageTree;
 import org.apache.pdfbox.pdmodel.common.PDDestinationOrAction;
 import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureTreeRoot;
 import org.apache.pdfbox.pdmodel.graphics.optionalcontent.PDOptionalContentProperties;
@@ -33,10 +32,12 @@ import org.verapdf.model.coslayer.CosLang;
 import org.verapdf.model.impl.pb.cos.PBCosLang;
 import org.verapdf.model.impl.pb.pd.signatures.PBoxPDPerms;
 import org.verapdf.model.pdlayer.*;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.OutlinesHelper;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -130,7 +131,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case OUTLINES:
 				return this.getOutlines();
@@ -155,7 +156,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 			case PERMS:
 				return this.getPerms();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -220,12 +221,12 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 	}
 
 	private List<PDPage> getPages() {
-		PDPageTree pageTree = this.document.getPages();
-		List<PDPage> pages = new ArrayList<>(pageTree.getCount());
-		for (org.apache.pdfbox.pdmodel.PDPage page : pageTree) {
-			pages.add(new PBoxPDPage(page, this.document, this.flavour));
+		// single traversal, PDPageTree.get walks the tree from the root on every call
+		List<org.apache.pdfbox.pdmodel.PDPage> pages = new ArrayList<>();
+		for (org.apache.pdfbox.pdmodel.PDPage page : this.document.getPages()) {
+			pages.add(page);
 		}
-		return Collections.unmodifiableList(pages);
+		return new PagesView(pages, this.document, this.flavour, getBudgetTracker());
 	}
 
 	private List<PDMetadata> getMetadata() {
@@ -342,4 +343,45 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 		return Collections.emptyList();
 	}
 
+
+	/**
+	 * Read-only list of the pages collected from the page tree, which creates
+	 * page objects on access and does not keep them. Page with its parsed
+	 * content and annotations becomes unreachable as soon as the validator is
+	 * done with it. Size is the number of leaves found in the tree, which
+	 * may differ from the /Count entry of a broken tree. Pages are
+	 * constructed for the budget tracker of the document, so each access is
+	 * charged like an object returned by a link.
+	 */
+	private static final class PagesView extends AbstractList<PDPage> {
+
+		private final List<org.apache.pdfbox.pdmodel.PDPage> pages;
+		private final org.apache.pdfbox.pdmodel.PDDocument document;
+		private final PDFAFlavour flavour;
+		private final BudgetTracker budgetTracker;
+
+		private PagesView(List<org.apache.pdfbox.pdmodel.PDPage> pages,
+						  org.apache.pdfbox.pdmodel.PDDocument document, PDFAFlavour flavour,
+						  BudgetTracker budgetTracker) {
+			this.pages = pages;
+			this.document = document;
+			this.flavour = flavour;
+			this.budgetTracker = budgetTracker;
+		}
+
+		@Override
+		public PDPage get(int index) {
+			BudgetTracker previous = BudgetTracker.beginConstruction(this.budgetTracker);
+			try {
+				return new PBoxPDPage(this.pages.get(index), this.document, this.flavour);
+			} finally {
+				BudgetTracker.endConstruction(previous);
+			}
+		}
+
+		@Override
+		public int size() {
+			return this.pages.size();
+		}
+	}
 }
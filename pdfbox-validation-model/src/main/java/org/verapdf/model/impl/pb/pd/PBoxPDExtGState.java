@@ -125,7 +125,7 @@ public class PBoxPDExtGState extends PBoxPDResources implements PDExtGState {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case RI:
 				return this.getRI();
@@ -134,7 +134,7 @@ public class PBoxPDExtGState extends PBoxPDResources implements PDExtGState {
 			case HALFTONE:
 				return this.getHalftone();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -65,11 +65,11 @@ public class PBoxPDFormField extends PBoxPDObject implements PDFormField {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (ADDITIONAL_ACTION.equals(link)) {
             return this.getAdditionalAction();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDAction> getAdditionalAction() {
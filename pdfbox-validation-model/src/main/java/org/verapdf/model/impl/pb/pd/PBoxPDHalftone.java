@@ -105,12 +105,12 @@ public class PBoxPDHalftone extends PBoxPDObject implements PDHalftone {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case HALFTONES:
 				return this.getHalftones();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -31,6 +31,8 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.impl.axl.AXLMainXMPPackage;
 import org.verapdf.model.impl.axl.AXLXMPPackage;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.impl.pb.containers.XMPMetadataCache;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.pdlayer.PDMetadata;
 import org.verapdf.model.xmplayer.XMPPackage;
@@ -56,6 +58,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 	private boolean isMainMetadata;
 	private org.apache.pdfbox.pdmodel.common.PDMetadata mainMetadata;
 	private PDFAFlavour flavour;
+	private final XMPMetadataCache xmpMetadataCache;
 
 	public PBoxPDMetadata(org.apache.pdfbox.pdmodel.common.PDMetadata simplePDObject, Boolean isMainMetadata,
 			PDDocument document, PDFAFlavour flavour) {
@@ -68,6 +71,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 			this.mainMetadata = null;
 		}
 		this.flavour = flavour;
+		this.xmpMetadataCache = ValidationContext.of(document).getXMPMetadataCache();
 	}
 
 	@Override
@@ -84,14 +88,14 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case XMP_PACKAGE:
 			return this.getXMPPackage();
 		case STREAM:
 			return this.getStream();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -100,7 +104,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 		try {
 			COSStream stream = ((org.apache.pdfbox.pdmodel.common.PDMetadata) this.simplePDObject).getStream();
 			if (stream != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(stream.getUnfilteredStream());
+				VeraPDFMeta metadata = this.xmpMetadataCache.getMetadata(stream);
 				if (isMainMetadata) {
 					xmp.add(new AXLMainXMPPackage(metadata, true, this.flavour));
 				} else if (this.flavour == null || this.flavour.getPart() == null
@@ -108,7 +112,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 					COSStream mainStream = mainMetadata.getStream();
 					VeraPDFXMPNode mainExtensionNode = null;
 					if (mainStream != null) {
-						VeraPDFMeta mainMeta = VeraPDFMeta.parse(mainStream.getUnfilteredStream());
+						VeraPDFMeta mainMeta = this.xmpMetadataCache.getMetadata(mainStream);
 						mainExtensionNode = mainMeta.getExtensionSchemasNode();
 					}
 					xmp.add(new AXLXMPPackage(metadata, true, mainExtensionNode, this.flavour));
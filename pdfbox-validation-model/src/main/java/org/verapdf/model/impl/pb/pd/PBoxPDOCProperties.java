@@ -53,14 +53,14 @@ public class PBoxPDOCProperties extends PBoxPDObject implements PDOCProperties {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case D:
 			return this.getD();
 		case CONFIGS:
 			return this.getConfigs();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -35,11 +35,13 @@ import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAction;
 import org.verapdf.model.pdlayer.PDAction;
 import org.verapdf.model.pdlayer.PDObject;
+import org.verapdf.model.tools.BudgetTracked;
+import org.verapdf.model.tools.BudgetTracker;
 
 /**
  * @author Evgeniy Muravitskiy
  */
-public class PBoxPDObject extends GenericModelObject implements PDObject {
+public class PBoxPDObject extends GenericModelObject implements PDObject, BudgetTracked {
 
 	public static final int MAX_NUMBER_OF_ELEMENTS = 1;
 
@@ -49,6 +51,15 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 	protected PDFontLike pdFontLike;
 	protected CMap cMap;
 	private String id = null;
+	private static final BudgetTracker.LinkSource<PBoxPDObject> LINKS = new BudgetTracker.LinkSource<PBoxPDObject>() {
+		@Override
+		public List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(PBoxPDObject object, String link) {
+			return object.getLinkedObjectsImpl(link);
+		}
+	};
+
+	// charged before the rest of the object is constructed
+	private final BudgetTracker budgetTracker = BudgetTracker.objectConstructed();
 
 	protected PBoxPDObject(COSObjectable simplePDObject, final String type) {
 		super(type);
@@ -132,4 +143,25 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 	public String getID() {
 		return this.id;
 	}
+
+	@Override
+	public BudgetTracker getBudgetTracker() {
+		return this.budgetTracker;
+	}
+
+	/**
+	 * Returns objects of the given link, see
+	 * {@link BudgetTracker#link(BudgetTracked, String, BudgetTracker.LinkSource)}.
+	 */
+	@Override
+	public final List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(String link) {
+		return BudgetTracker.link(this, link, LINKS);
+	}
+
+	/**
+	 * Actual implementation of {@link #getLinkedObjects(String)}
+	 */
+	protected List<? extends org.verapdf.model.baselayer.Object> getLinkedObjectsImpl(String link) {
+		return super.getLinkedObjects(link);
+	}
 }
@@ -52,11 +52,11 @@ public class PBoxPDOutline extends PBoxPDObject implements PDOutline {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (ACTION.equals(link)) {
             return this.getAction();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDAction> getAction() {
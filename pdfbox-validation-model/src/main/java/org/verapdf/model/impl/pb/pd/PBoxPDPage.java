@@ -28,15 +28,20 @@ import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.common.COSObjectable;
 import org.apache.pdfbox.pdmodel.interactive.action.PDPageAdditionalActions;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceDictionary;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceEntry;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosBBox;
 import org.verapdf.model.impl.pb.cos.PBCosBBox;
 import org.verapdf.model.pdlayer.*;
 import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.model.tools.transparency.TransparencyScanner;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -76,7 +81,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	/** Maximal number of actions in page dictionary */
 	public static final int MAX_NUMBER_OF_ACTIONS = 2;
 
-	private boolean containsTransparency = false;
+	private Boolean containsTransparency = null;
 	private List<PDContentStream> contentStreams = null;
 	private List<PDAnnot> annotations = null;
 
@@ -106,13 +111,77 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 
 	@Override
 	public Boolean getcontainsTransparency() {
-		if (this.contentStreams == null) {
-			parseContentStream();
+		if (this.containsTransparency == null) {
+			this.containsTransparency = Boolean.valueOf(scanTransparency());
 		}
-		if (this.annotations == null) {
-			this.annotations = parseAnnotataions();
+		return this.containsTransparency;
+	}
+
+	/**
+	 * Checks content stream and annotation appearances of the page for
+	 * transparency without construction of their operators
+	 */
+	private boolean scanTransparency() {
+		TransparencyScanner scanner = new TransparencyScanner();
+		org.apache.pdfbox.pdmodel.PDPage page =
+				(org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject;
+		if (scanner.containsTransparency(page, getPageResources(page))) {
+			return true;
+		}
+		try {
+			List<PDAnnotation> pdfboxAnnotations = page.getAnnotations();
+			if (pdfboxAnnotations != null) {
+				PDResources pageResources = page.getResources();
+				for (PDAnnotation annotation : pdfboxAnnotations) {
+					if (annotation != null && isAppearanceTransparent(annotation, pageResources, scanner)) {
+						return true;
+					}
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.debug(
+					"Problems in obtaining pdfbox PDAnnotations. "
+							+ e.getMessage(), e);
+		}
+		return false;
+	}
+
+	private static boolean isAppearanceTransparent(PDAnnotation annotation, PDResources pageResources,
+												   TransparencyScanner scanner) {
+		PDAppearanceDictionary appearanceDictionary = annotation.getAppearance();
+		if (appearanceDictionary == null) {
+			return false;
 		}
-		return Boolean.valueOf(this.containsTransparency);
+		COSDictionary dictionary = appearanceDictionary.getCOSObject();
+		return isAppearanceEntryTransparent(dictionary.getDictionaryObject(COSName.N), pageResources, scanner)
+				|| isAppearanceEntryTransparent(dictionary.getDictionaryObject(COSName.D), pageResources, scanner)
+				|| isAppearanceEntryTransparent(dictionary.getDictionaryObject(COSName.R), pageResources, scanner);
+	}
+
+	private static boolean isAppearanceEntryTransparent(COSBase appearanceEntry, PDResources pageResources,
+														TransparencyScanner scanner) {
+		if (appearanceEntry == null) {
+			return false;
+		}
+		PDAppearanceEntry entry = new PDAppearanceEntry(appearanceEntry);
+		Collection<PDAppearanceStream> streams = entry.isStream()
+				? Collections.singletonList(entry.getAppearanceStream())
+				: entry.getSubDictionary().values();
+		for (PDAppearanceStream stream : streams) {
+			if (stream == null) {
+				continue;
+			}
+			org.apache.pdfbox.pdmodel.graphics.form.PDGroup group = stream.getGroup();
+			if (group != null && COSName.TRANSPARENCY.equals(group.getSubType())) {
+				return true;
+			}
+			PDInheritableResources resources = PDInheritableResources.getInstance(pageResources,
+					stream.getResources());
+			if (scanner.containsTransparency(stream, resources)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -141,7 +210,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case GROUP:
 				return this.getGroup();
@@ -162,7 +231,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 			case ART_BOX:
 				return this.getArtBox();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -192,11 +261,13 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 		this.contentStreams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		org.apache.pdfbox.pdmodel.PDPage page =
 				(org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject;
-		PDInheritableResources resources = PDInheritableResources
-				.getInstance(page.getInheritedResources(), page.getPageResources());
-		PBoxPDContentStream contentStream = new PBoxPDContentStream(page, resources, this.document, this.flavour);
+		PBoxPDContentStream contentStream = new PBoxPDContentStream(page, getPageResources(page),
+				this.document, this.flavour);
 		contentStreams.add(contentStream);
-		this.containsTransparency = contentStream.isContainsTransparency();
+	}
+
+	private static PDInheritableResources getPageResources(org.apache.pdfbox.pdmodel.PDPage page) {
+		return PDInheritableResources.getInstance(page.getInheritedResources(), page.getPageResources());
 	}
 
 	private List<PDAction> getActions() {
@@ -249,9 +320,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 				this.simplePDObject).getResources();
 		for (PDAnnotation annotation : pdfboxAnnotations) {
 			if (annotation != null) {
-				PBoxPDAnnot annot = new PBoxPDAnnot(annotation, pageResources, this.document, this.flavour);
-				this.containsTransparency |= annot.isContainsTransparency();
-				annotations.add(annot);
+				annotations.add(new PBoxPDAnnot(annotation, pageResources, this.document, this.flavour));
 			}
 		}
 	}
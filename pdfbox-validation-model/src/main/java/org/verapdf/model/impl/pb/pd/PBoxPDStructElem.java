@@ -102,7 +102,7 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case CHILDREN:
 			return this.getChildren();
@@ -111,7 +111,7 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 		case LANG:
 			return this.getLang();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
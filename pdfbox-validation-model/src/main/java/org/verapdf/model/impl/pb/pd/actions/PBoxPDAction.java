@@ -60,11 +60,11 @@ public class PBoxPDAction extends PBoxPDObject implements PDAction {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (NEXT.equals(link)) {
             return this.getNext();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDAction> getNext() {
@@ -109,7 +109,7 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case ALTERNATE:
 				return this.getAlternate();
@@ -118,7 +118,7 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 			case COLORANTS:
 				return this.getColorants();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
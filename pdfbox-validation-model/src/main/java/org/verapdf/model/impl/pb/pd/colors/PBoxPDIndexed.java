@@ -51,11 +51,11 @@ public class PBoxPDIndexed extends PBoxPDColorSpace implements PDIndexed {
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         if (BASE.equals(link)) {
             return this.getBase();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDColorSpace> getBase() {
@@ -29,7 +29,7 @@ import org.apache.pdfbox.pdmodel.graphics.color.PDSeparation;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosUnicodeName;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosUnicodeName;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -51,61 +51,34 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 	public static final String COLORANT_NAME = "colorantName";
 
 	public static final int COLORANT_NAME_POSITION = 1;
+	public static final int ALTERNATE_POSITION = 2;
+	public static final int TINT_TRANSFORM_POSITION = 3;
 
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
 
-	private COSArray colorSpace;
-
 	public PBoxPDSeparation(
 			PDSeparation simplePDObject, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, SEPARATION_TYPE);
 		this.document = document;
 		this.flavour = flavour;
 
-		this.colorSpace = (COSArray) simplePDObject.getCOSObject();
-
-		if (StaticContainers.getSeparations().containsKey(simplePDObject.getColorantName())) {
-			StaticContainers.getSeparations().get(simplePDObject.getColorantName()).add(this);
-		} else {
-			final List<PBoxPDSeparation> separationList = new ArrayList<>();
-			separationList.add(this);
-			StaticContainers.getSeparations().put(simplePDObject.getColorantName(), separationList);
-		}
+		COSArray colorSpace = (COSArray) simplePDObject.getCOSObject();
+		ValidationContext.of(document).addSeparation(simplePDObject.getColorantName(),
+				getDirectElement(colorSpace, ALTERNATE_POSITION), getDirectElement(colorSpace, TINT_TRANSFORM_POSITION));
 	}
 
 	@Override
 	public Boolean getareTintAndAlternateConsistent() {
 		String name = ((PDSeparation) simplePDObject).getColorantName();
-
-		if (StaticContainers.getInconsistentSeparations().contains(name)) {
-			return Boolean.FALSE;
-		}
-
-		if (StaticContainers.getSeparations().get(name).size() > 1) {
-			for (PBoxPDSeparation pBoxPDSeparation : StaticContainers.getSeparations().get(name)) {
-				if (pBoxPDSeparation.equals(this)) {
-					continue;
-				}
-
-				COSArray toCompare = pBoxPDSeparation.colorSpace;
-				COSBase alternateSpaceToCompare = unwrapObject(toCompare.get(2));
-				COSBase tintTransformToCompare = unwrapObject(toCompare.get(3));
-
-				COSBase alternateSpaceCurrent = unwrapObject(colorSpace.get(2));
-				COSBase tintTransformCurrent = unwrapObject(colorSpace.get(3));
-
-				if (!alternateSpaceToCompare.equals(alternateSpaceCurrent) || !tintTransformToCompare.equals(tintTransformCurrent)) {
-					StaticContainers.getInconsistentSeparations().add(name);
-					return Boolean.FALSE;
-				}
-			}
-		}
-
-		return Boolean.TRUE;
+		return Boolean.valueOf(!ValidationContext.of(this.document).isInconsistentSeparation(name));
 	}
 
-	private static COSBase unwrapObject(COSBase object) {
+	private static COSBase getDirectElement(COSArray array, int index) {
+		if (array.size() <= index) {
+			return null;
+		}
+		COSBase object = array.get(index);
 		if (object instanceof COSObject) {
 			return ((COSObject) object).getObject();
 		}
@@ -113,14 +86,14 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case ALTERNATE:
 				return this.getAlternate();
 			case COLORANT_NAME:
 				return this.getColorantName();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
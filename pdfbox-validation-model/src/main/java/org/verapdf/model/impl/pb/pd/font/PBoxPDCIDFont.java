@@ -37,6 +37,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.pdlayer.PDCIDFont;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
@@ -89,7 +90,7 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 				return Boolean.TRUE;
 			}
 			try {
-				InputStream stream = ((COSStream) cidSet.getCOSObject()).getUnfilteredStream();
+				InputStream stream = BudgetTracker.track(getBudgetTracker(), ((COSStream) cidSet.getCOSObject()).getUnfilteredStream());
 				int length = cidSet.getLength();
 				byte[] cidSetBytes = getCIDsFromCIDSet(stream, length);
 
@@ -120,11 +121,11 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (CID_SET.equals(link)) {
 			return this.getCIDSet();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<CosStream> getCIDSet() {
@@ -32,6 +32,7 @@ import org.verapdf.model.impl.pb.external.PBoxCMapFile;
 import org.verapdf.model.impl.pb.pd.PBoxPDObject;
 import org.verapdf.model.pdlayer.PDCMap;
 import org.verapdf.model.pdlayer.PDReferencedCMap;
+import org.verapdf.model.tools.BudgetTracker;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -64,14 +65,14 @@ public class PBoxPDCMap extends PBoxPDObject implements PDCMap {
 	}
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         switch (link) {
             case EMBEDDED_FILE:
                 return this.getEmbeddedFile();
             case USE_C_MAP:
                 return this.getUseCMap();
             default:
-                return super.getLinkedObjects(link);
+                return super.getLinkedObjectsImpl(link);
         }
     }
 
@@ -96,7 +97,7 @@ public class PBoxPDCMap extends PBoxPDObject implements PDCMap {
                     pdfboxCMap = cMapParser.parsePredefined(((COSName) useCMap).getName());
                     pBoxPDCMap = new PBoxPDReferencedCMap(pdfboxCMap, null);
                 } else if (useCMap instanceof COSStream) {
-                    pdfboxCMap = cMapParser.parse(((COSStream) useCMap).getUnfilteredStream());
+                    pdfboxCMap = cMapParser.parse(BudgetTracker.track(getBudgetTracker(), ((COSStream) useCMap).getUnfilteredStream()));
                     pBoxPDCMap = new PBoxPDReferencedCMap(pdfboxCMap, (COSStream) useCMap);
                 }
 
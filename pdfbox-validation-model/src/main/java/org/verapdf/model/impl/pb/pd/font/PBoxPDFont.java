@@ -20,6 +20,7 @@
  */
 package org.verapdf.model.impl.pb.pd.font;
 
+import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
@@ -35,8 +36,10 @@ import org.verapdf.model.impl.pb.external.PBoxFontProgram;
 import org.verapdf.model.impl.pb.external.PBoxTrueTypeFontProgram;
 import org.verapdf.model.impl.pb.pd.PBoxPDResources;
 import org.verapdf.model.pdlayer.PDFont;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.IDGenerator;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +49,8 @@ import java.util.List;
  */
 public abstract class PBoxPDFont extends PBoxPDResources implements PDFont {
 
+	private static final Logger LOGGER = Logger.getLogger(PBoxPDFont.class);
+
 	public static final String FONT_FILE = "fontFile";
 	public static final String BASE_FONT = "BaseFont";
 
@@ -121,20 +126,21 @@ public abstract class PBoxPDFont extends PBoxPDResources implements PDFont {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case FONT_FILE:
 			return this.getFontFile();
 		case BASE_FONT:
 			return this.getBaseFont();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
 	private List<FontProgram> getFontFile() {
 		if (!getSubtype().equals(FontFactory.TYPE_3) && (this.pdFontLike.isEmbedded())) {
 			if (getSubtype().equals(FontFactory.TRUE_TYPE)) {
+				chargeFontFile(pdFontLike.getFontDescriptor().getFontFile2());
 				PBoxTrueTypeFontProgram trueTypeFontProgram = new PBoxTrueTypeFontProgram(
 						((PDTrueTypeFont) this.pdFontLike).getTrueTypeFont(), getisSymbolic());
 				return PBoxPDFont.getFontProgramList(trueTypeFontProgram);
@@ -153,12 +159,28 @@ public abstract class PBoxPDFont extends PBoxPDResources implements PDFont {
 				fontFile = fontDescriptor.getFontFile3();
 			}
 			if (fontFile != null) {
+				chargeFontFile(fontFile);
 				return PBoxPDFont.getFontProgramList(new PBoxFontProgram(fontFile));
 			}
 		}
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Charges decoded font program to the budget tracker. The program itself
+	 * is decoded by pdfbox when the font is loaded.
+	 */
+	private void chargeFontFile(PDStream fontFile) {
+		BudgetTracker budgetTracker = getBudgetTracker();
+		if (budgetTracker != null && fontFile != null) {
+			try {
+				budgetTracker.chargeDecoded(fontFile.getStream());
+			} catch (IOException e) {
+				LOGGER.debug("Can not decode font program", e);
+			}
+		}
+	}
+
 	private static List<FontProgram> getFontProgramList(FontProgram fontProgram) {
 		List<FontProgram> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		list.add(fontProgram);
@@ -128,14 +128,14 @@ public class PBoxPDType0Font extends PBoxPDFont implements PDType0Font {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case DESCENDANT_FONTS:
 				return this.getDescendantFonts();
 			case ENCODING:
 				return this.getEncoding();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
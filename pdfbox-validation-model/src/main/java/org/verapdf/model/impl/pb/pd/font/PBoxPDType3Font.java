@@ -29,6 +29,8 @@ import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
 import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.Type3CharProcsCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDType3Font;
@@ -67,11 +69,11 @@ public class PBoxPDType3Font extends PBoxPDSimpleFont implements PDType3Font {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (CHAR_STRINGS.equals(link)) {
 			return this.getCharStrings();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
 	}
 
 	private List<PDContentStream> getCharStrings() {
@@ -93,6 +95,18 @@ public class PBoxPDType3Font extends PBoxPDSimpleFont implements PDType3Font {
 	}
 
 	private void parseCharStrings() {
+		Type3CharProcsCache cache = ValidationContext.of(this.document).getType3CharProcsCache();
+		COSDictionary fontDictionary = ((org.apache.pdfbox.pdmodel.font.PDType3Font) this.pdFontLike).getCOSObject();
+		Map<String, PDContentStream> cachedCharStrings = cache.get(fontDictionary, this.resources);
+		if (cachedCharStrings == null) {
+			createCharStrings();
+			cache.put(fontDictionary, this.resources, this.charStrings);
+		} else {
+			this.charStrings = cachedCharStrings;
+		}
+	}
+
+	private void createCharStrings() {
 		COSDictionary charProcDict = ((org.apache.pdfbox.pdmodel.font.PDType3Font) this.pdFontLike).getCharProcs();
 		if (charProcDict != null) {
 			Set<COSName> keySet = charProcDict.keySet();
@@ -101,7 +101,7 @@ public class PBoxPDInlineImage extends PBoxPDObject implements PDInlineImage {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case PBoxPDXImage.INTENT:
 				return this.getIntent();
@@ -115,7 +115,7 @@ public class PBoxPDInlineImage extends PBoxPDObject implements PDInlineImage {
 			case F:
 				return getFilters();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 
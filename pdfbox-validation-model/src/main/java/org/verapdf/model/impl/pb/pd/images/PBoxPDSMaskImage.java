@@ -43,12 +43,12 @@ public class PBoxPDSMaskImage extends PBoxPDXImage implements PDSMaskImage {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 			case IMAGE_CS:
 				return Collections.emptyList();
 			default:
-				return super.getLinkedObjects(link);
+				return super.getLinkedObjectsImpl(link);
 		}
 	}
 }
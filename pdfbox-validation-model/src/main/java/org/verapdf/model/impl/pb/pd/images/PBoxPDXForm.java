@@ -23,18 +23,22 @@ package org.verapdf.model.impl.pb.pd.images;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
 import org.verapdf.model.coslayer.CosStream;
+import org.verapdf.model.impl.pb.containers.FormXObjectsCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.impl.pb.pd.PBoxPDGroup;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDGroup;
 import org.verapdf.model.pdlayer.PDXForm;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -92,14 +96,14 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case GROUP:
 			return this.getGroup();
 		case CONTENT_STREAM:
 			return this.getContentStream();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -131,13 +135,40 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 
 	private void parseContentStream() {
 		List<PDContentStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		PBoxPDContentStream pdContentStream = new PBoxPDContentStream((PDFormXObject) this.simplePDObject,
-				this.resources, this.document, this.flavour);
+		PBoxPDContentStream pdContentStream = getParsedContentStream();
 		this.contentStreamContainsTransparency = pdContentStream.isContainsTransparency();
 		streams.add(pdContentStream);
 		this.contentStreams = streams;
 	}
 
+	private PBoxPDContentStream getParsedContentStream() {
+		ValidationContext context = ValidationContext.of(this.document);
+		FormXObjectsCache cache = context.getFormXObjectsCache();
+		BudgetTracker budgetTracker = context.getBudgetTracker();
+		COSObjectKey key = ((PDFormXObject) this.simplePDObject).getCOSStream().getKey();
+		PBoxPDContentStream pdContentStream = cache.get(key, this.resources);
+		if (pdContentStream == null) {
+			pdContentStream = new PBoxPDContentStream((PDFormXObject) this.simplePDObject,
+					this.resources, this.document, this.flavour);
+			// parse operators before caching, nested forms are cached during this call
+			if (budgetTracker == null) {
+				pdContentStream.isContainsTransparency();
+			} else {
+				int entry = budgetTracker.enterFormXObject();
+				try {
+					pdContentStream.isContainsTransparency();
+				} finally {
+					pdContentStream.setFormXObjectDepth(budgetTracker.exitFormXObject(entry));
+				}
+			}
+			cache.put(key, this.resources, pdContentStream);
+		} else if (budgetTracker != null) {
+			// nesting of the cached form still counts at every place it is used
+			budgetTracker.checkFormXObject(pdContentStream.getFormXObjectDepth());
+		}
+		return pdContentStream;
+	}
+
 	/**
 	 * @return true if current form object contains transparency group or
 	 *         transparency in its content stream
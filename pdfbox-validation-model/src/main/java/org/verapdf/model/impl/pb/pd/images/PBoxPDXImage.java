@@ -34,6 +34,7 @@ import org.verapdf.model.impl.pb.cos.PBCosRenderingIntent;
 import org.verapdf.model.impl.pb.external.PBoxJPEG2000;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDXImage;
+import org.verapdf.model.tools.BudgetTracker;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -85,7 +86,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 	}
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case INTENT:
 			return this.getIntent();
@@ -96,7 +97,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 		case JPX_STREAM:
 			return this.getJPXStream();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -184,7 +185,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 			if (filters != null && filters.contains(COSName.JPX_DECODE)) {
 				// TODO: handle the case when jpx stream is additionally hex
 				// encoded
-				try (InputStream image = stream.getStream().getFilteredStream()) {
+				try (InputStream image = BudgetTracker.track(getBudgetTracker(), stream.getStream().getFilteredStream())) {
 					ArrayList<JPEG2000> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 					PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(image, this.document, this.flavour);
 					this.colorSpaceFromImage = jpeg2000.getImageColorSpace();
@@ -103,12 +103,12 @@ public class PBoxPDXObject extends PBoxPDResources implements PDXObject {
 
 
 	@Override
-	public List<? extends Object> getLinkedObjects(String link) {
+	protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		switch (link) {
 		case S_MASK:
 			return this.getSMask();
 		default:
-			return super.getLinkedObjects(link);
+			return super.getLinkedObjectsImpl(link);
 		}
 	}
 
@@ -56,11 +56,11 @@ public class PBoxPDShadingPattern extends PBoxPDPattern implements
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
 		if (SHADING.equals(link)) {
 			return this.getShading();
 		}
-		return super.getLinkedObjects(link);
+		return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDShading> getShading() {
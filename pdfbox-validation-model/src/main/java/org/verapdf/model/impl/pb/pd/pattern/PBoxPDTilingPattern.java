@@ -58,12 +58,12 @@ public class PBoxPDTilingPattern extends PBoxPDPattern implements
 	}
 
 	@Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
 
         if (CONTENT_STREAM.equals(link)) {
             return this.getContentStream();
         }
-        return super.getLinkedObjects(link);
+        return super.getLinkedObjectsImpl(link);
     }
 
     private List<PDContentStream> getContentStream() {
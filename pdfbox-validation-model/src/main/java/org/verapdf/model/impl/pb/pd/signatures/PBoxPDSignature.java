@@ -20,18 +20,16 @@
  */
 package org.verapdf.model.impl.pb.pd.signatures;
 
-import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
-import org.apache.pdfbox.pdfparser.SignatureParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.PKCSDataObject;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.external.PBoxPKCSDataObject;
 import org.verapdf.model.impl.pb.pd.PBoxPDObject;
 import org.verapdf.model.pdlayer.PDSigRef;
 import org.verapdf.model.pdlayer.PDSignature;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,8 +39,6 @@ import java.util.List;
  */
 public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
 
-    private static final Logger LOGGER = Logger.getLogger(PBoxPDSignature.class);
-
     /**
      * Type name for {@code PBoxPDSignature}
      */
@@ -51,8 +47,8 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
     public static final String CONTENTS = "Contents";
     public static final String REFERENCE = "Reference";
 
-    protected static byte[] contents;
-    protected long signatureOffset;
+    protected final byte[] contents;
+    protected final long signatureOffset;
 
     /**
      * @param pdSignature {@link org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature}
@@ -64,20 +60,20 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
         super(pdSignature, SIGNATURE_TYPE);
         this.document = document;
         COSObjectKey key = new COSObjectKey(signatureReference);
-        signatureOffset = (this.document.getDocument().getXrefTable().get(key)).longValue();
-        contents = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
+        this.signatureOffset = (this.document.getDocument().getXrefTable().get(key)).longValue();
+        this.contents = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
                 this.simplePDObject).getContents();
     }
 
     @Override
-    public List<? extends Object> getLinkedObjects(String link) {
+    protected List<? extends Object> getLinkedObjectsImpl(String link) {
         switch (link) {
             case CONTENTS:
                 return getContents();
             case REFERENCE:
                 return getSigRefs();
             default:
-                return super.getLinkedObjects(link);
+                return super.getLinkedObjectsImpl(link);
         }
     }
 
@@ -87,29 +83,25 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
      */
     @Override
     public Boolean getdoesByteRangeCoverEntireDocument() {
-        try {
-            SignatureParser parser = new SignatureParser(this.document.getPdfSource(),
-                    this.document.getDocument());
-            long[] actualByteRange =
-                    parser.getByteRangeBySignatureOffset(signatureOffset);
-            int[] byteRange = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
-                    this.simplePDObject).getByteRange();
-            for (int i = 0; i < 4; ++i) {
-                if (byteRange[i] != actualByteRange[i]) {
-                    return Boolean.FALSE;
-                }
-            }
-            return Boolean.TRUE;
-        } catch (IOException ex) {
-            LOGGER.debug("Can't create parser to process digital signature", ex);
+        long[] actualByteRange = ValidationContext.of(this.document)
+                .getSignaturesByteRanges(this.document).getByteRange(this.signatureOffset);
+        if (actualByteRange == null) {
             return Boolean.FALSE;
         }
+        int[] byteRange = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
+                this.simplePDObject).getByteRange();
+        for (int i = 0; i < 4; ++i) {
+            if (byteRange[i] != actualByteRange[i]) {
+                return Boolean.FALSE;
+            }
+        }
+        return Boolean.TRUE;
     }
 
-    private static List<PKCSDataObject> getContents() {
-        if (contents != null) {
+    private List<PKCSDataObject> getContents() {
+        if (this.contents != null) {
             List<PKCSDataObject> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new PBoxPKCSDataObject(new COSString(contents)));
+            list.add(new PBoxPKCSDataObject(new COSString(this.contents)));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
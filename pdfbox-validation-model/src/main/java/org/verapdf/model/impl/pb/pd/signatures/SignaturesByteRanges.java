@@ -0,0 +1,117 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd.signatures;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdfparser.SignatureParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.apache.pdfbox.pdmodel.interactive.form.PDField;
+import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Actual byte ranges of all signatures of a document. Byte ranges of the
+ * signatures referenced from signature fields of the interactive form, at
+ * any level of the field tree, are computed together on the first request,
+ * each by its own signature parser, as a parser keeps the state of the
+ * signature it has read.
+ */
+public final class SignaturesByteRanges {
+
+    private static final Logger LOGGER = Logger.getLogger(SignaturesByteRanges.class);
+
+    private final PDDocument document;
+    private final Map<Long, long[]> byteRanges = new HashMap<>();
+    private boolean isParsed = false;
+
+    /**
+     * @param document {@link PDDocument} containing representation of initial PDF file.
+     */
+    public SignaturesByteRanges(PDDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * @param signatureOffset offset of the signature dictionary in the source
+     * @return actual byte range of the signature or {@code null} if it can
+     * not be obtained
+     */
+    public synchronized long[] getByteRange(long signatureOffset) {
+        if (!this.isParsed) {
+            this.isParsed = true;
+            for (Long offset : getSignatureOffsets()) {
+                parseByteRange(offset.longValue());
+            }
+        }
+        if (!this.byteRanges.containsKey(Long.valueOf(signatureOffset))) {
+            parseByteRange(signatureOffset);
+        }
+        return this.byteRanges.get(Long.valueOf(signatureOffset));
+    }
+
+    private void parseByteRange(long signatureOffset) {
+        long[] byteRange = null;
+        try {
+            SignatureParser parser = new SignatureParser(this.document.getPdfSource(),
+                    this.document.getDocument());
+            byteRange = parser.getByteRangeBySignatureOffset(signatureOffset);
+        } catch (IOException ex) {
+            LOGGER.debug("Can't create parser to process digital signature", ex);
+        }
+        this.byteRanges.put(Long.valueOf(signatureOffset), byteRange);
+    }
+
+    /**
+     * @return offsets of signatures of all signature fields, including the
+     * ones nested under non-terminal fields
+     */
+    private TreeSet<Long> getSignatureOffsets() {
+        TreeSet<Long> offsets = new TreeSet<>();
+        PDDocumentCatalog catalog = this.document.getDocumentCatalog();
+        PDAcroForm acroForm = catalog == null ? null : catalog.getAcroForm();
+        if (acroForm == null) {
+            return offsets;
+        }
+        Map<COSObjectKey, Long> xrefTable = this.document.getDocument().getXrefTable();
+        for (PDField field : acroForm.getFieldTree()) {
+            if (field instanceof PDSignatureField) {
+                COSBase signatureReference = field.getCOSObject().getItem(COSName.V);
+                if (signatureReference instanceof COSObject) {
+                    Long offset = xrefTable.get(new COSObjectKey((COSObject) signatureReference));
+                    if (offset != null) {
+                        offsets.add(offset);
+                    }
+                }
+            }
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,451 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.model.ModelBudget;
+import org.verapdf.model.ModelBudgetExceededException;
+import org.verapdf.model.ModelConstructionInterruptedException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Usage of the {@link ModelBudget} of a single document. The tracker is held
+ * by the {@link org.verapdf.model.impl.pb.containers.ValidationContext} of
+ * the document. Every model object keeps the tracker it is constructed for,
+ * see {@link BudgetTracked}, and {@link #link(BudgetTracked, String, LinkSource)}
+ * makes it the tracker of the objects constructed by its links. Each object
+ * is charged when it is constructed, before the constructor of the concrete
+ * model type runs.
+ * <p>
+ * Model of a single document is built by one thread at a time, as pdfbox
+ * objects are not thread safe, so the nesting of Form XObjects is kept in
+ * plain fields.
+ * <p>
+ * Every check also stops construction with
+ * {@link ModelConstructionInterruptedException}, if the current thread is
+ * interrupted. Neither pdfbox nor model objects respond to interruption
+ * otherwise.
+ */
+public final class BudgetTracker {
+
+	private static final int SKIP_BUFFER_SIZE = 8192;
+	private static final COSName DECODED_LENGTH = COSName.getPDFName("DL");
+
+	// tracker of objects constructed by the link being resolved on the thread
+	private static final ThreadLocal<BudgetTracker> CONSTRUCTING = new ThreadLocal<>();
+
+	private final ModelBudget budget;
+	private final AtomicLong modelObjects = new AtomicLong();
+	private final AtomicLong decodedBytes = new AtomicLong();
+	private final LinkStatistics linkStatistics = new LinkStatistics();
+	private int formXObjectDepth = 0;
+	// deepest nesting reached below the current form
+	private int deepestFormXObject = 0;
+
+	/**
+	 * @param budget
+	 *            budget of the document
+	 */
+	public BudgetTracker(ModelBudget budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Resolves a link of a model object. Model objects constructed while the
+	 * link is resolved are charged to the tracker of the object and keep it.
+	 * The call is also recorded in {@link LinkStatistics} of the document
+	 * when the collection is enabled.
+	 *
+	 * @param object
+	 *            model object
+	 * @param link
+	 *            requested link
+	 * @param source
+	 *            actual implementation of the links of the object
+	 * @return objects of the link
+	 * @throws ModelConstructionInterruptedException
+	 *             if the current thread is interrupted
+	 */
+	public static <T extends BudgetTracked> List<? extends org.verapdf.model.baselayer.Object> link(T object,
+			String link, LinkSource<T> source) {
+		BudgetTracker tracker = object.getBudgetTracker();
+		if (tracker != null) {
+			checkInterrupted();
+		}
+		BudgetTracker previous = beginConstruction(tracker);
+		try {
+			if (!LinkStatistics.isEnabled()) {
+				return source.getLinkedObjects(object, link);
+			}
+			long start = System.nanoTime();
+			List<? extends org.verapdf.model.baselayer.Object> result = source.getLinkedObjects(object, link);
+			LinkStatistics.record(tracker == null ? null : tracker.linkStatistics, object.getObjectType(), link,
+					result == null ? 0 : result.size(), System.nanoTime() - start);
+			return result;
+		} finally {
+			endConstruction(previous);
+		}
+	}
+
+	/**
+	 * Makes the given tracker the tracker of model objects constructed by
+	 * the current thread, e.g. by a list, which creates its elements on
+	 * access. Every call has to be followed by
+	 * {@link #endConstruction(BudgetTracker)} with the returned value.
+	 *
+	 * @param tracker
+	 *            tracker of the document or null
+	 * @return tracker to restore
+	 */
+	public static BudgetTracker beginConstruction(BudgetTracker tracker) {
+		BudgetTracker previous = CONSTRUCTING.get();
+		if (tracker != null) {
+			CONSTRUCTING.set(tracker);
+		}
+		return previous;
+	}
+
+	/**
+	 * @param previous
+	 *            value returned by the matching
+	 *            {@link #beginConstruction(BudgetTracker)}
+	 */
+	public static void endConstruction(BudgetTracker previous) {
+		if (previous == null) {
+			CONSTRUCTING.remove();
+		} else {
+			CONSTRUCTING.set(previous);
+		}
+	}
+
+	/**
+	 * Charges a model object, which is being constructed. Called by the base
+	 * classes of model objects before the rest of the object is built.
+	 *
+	 * @return tracker of the new object or null, if it is constructed outside
+	 *         of a tracked link
+	 * @throws ModelBudgetExceededException
+	 *             if the number of model objects exceeds the budget
+	 * @throws ModelConstructionInterruptedException
+	 *             if the current thread is interrupted
+	 */
+	public static BudgetTracker objectConstructed() {
+		BudgetTracker tracker = CONSTRUCTING.get();
+		if (tracker != null) {
+			checkInterrupted();
+			tracker.check(ModelBudget.Kind.MODEL_OBJECTS, tracker.modelObjects.incrementAndGet());
+		}
+		return tracker;
+	}
+
+	/**
+	 * Checks number of operators parsed from a single content stream.
+	 *
+	 * @param operators
+	 *            number of operators parsed from the stream so far
+	 * @throws ModelBudgetExceededException
+	 *             if the number exceeds the budget
+	 * @throws ModelConstructionInterruptedException
+	 *             if the current thread is interrupted
+	 */
+	public void checkOperators(int operators) {
+		checkInterrupted();
+		check(ModelBudget.Kind.OPERATORS_PER_STREAM, operators);
+	}
+
+	/**
+	 * Records start of parsing of a Form XObject content stream. Every call
+	 * has to be followed by
+	 * {@link #exitFormXObject(int)} with the returned value.
+	 *
+	 * @return value to pass to {@link #exitFormXObject(int)}
+	 * @throws ModelBudgetExceededException
+	 *             if the nesting depth exceeds the budget
+	 * @throws ModelConstructionInterruptedException
+	 *             if the current thread is interrupted
+	 */
+	public int enterFormXObject() {
+		checkInterrupted();
+		check(ModelBudget.Kind.FORM_XOBJECT_DEPTH, this.formXObjectDepth + 1);
+		int deepest = this.deepestFormXObject;
+		this.deepestFormXObject = ++this.formXObjectDepth;
+		return deepest;
+	}
+
+	/**
+	 * Records end of parsing of a Form XObject content stream.
+	 *
+	 * @param entry
+	 *            value returned by the matching {@link #enterFormXObject()}
+	 * @return nesting depth of the parsed form, that is 1 for a form without
+	 *         nested forms
+	 */
+	public int exitFormXObject(int entry) {
+		int depth = this.deepestFormXObject - this.formXObjectDepth + 1;
+		this.deepestFormXObject = Math.max(entry, this.deepestFormXObject);
+		--this.formXObjectDepth;
+		return depth;
+	}
+
+	/**
+	 * Checks use of an already parsed Form XObject with the given nesting
+	 * depth at the current nesting.
+	 *
+	 * @param depth
+	 *            nesting depth of the form returned by
+	 *            {@link #exitFormXObject(int)} when it was parsed
+	 * @throws ModelBudgetExceededException
+	 *             if the nesting depth exceeds the budget
+	 * @throws ModelConstructionInterruptedException
+	 *             if the current thread is interrupted
+	 */
+	public void checkFormXObject(int depth) {
+		checkInterrupted();
+		int reached = this.formXObjectDepth + depth;
+		check(ModelBudget.Kind.FORM_XOBJECT_DEPTH, reached);
+		this.deepestFormXObject = Math.max(this.deepestFormXObject, reached);
+	}
+
+	/**
+	 * Wraps decoded data of a document stream, so that the read bytes are
+	 * charged to this tracker.
+	 *
+	 * @param decoded
+	 *            decoded data of a stream
+	 * @return stream charging the tracker
+	 */
+	public InputStream track(InputStream decoded) {
+		if (decoded == null || this.budget.getLimit(ModelBudget.Kind.DECODED_BYTES) == ModelBudget.UNLIMITED) {
+			return decoded;
+		}
+		return new TrackedInputStream(decoded, this);
+	}
+
+	/**
+	 * Wraps decoded data of a document stream by the given tracker.
+	 *
+	 * @param tracker
+	 *            tracker to charge or null
+	 * @param decoded
+	 *            decoded data of a stream
+	 * @return stream charging the tracker or the given stream, if there is
+	 *         no tracker
+	 */
+	public static InputStream track(BudgetTracker tracker, InputStream decoded) {
+		return tracker == null ? decoded : tracker.track(decoded);
+	}
+
+	/**
+	 * Charges decoded length of a stream, which is decoded by pdfbox and not
+	 * by the model, before pdfbox decodes it. Nothing is done unless decoded
+	 * bytes are limited.
+	 * <p>
+	 * Raw streams are charged by their /Length. Flate encoded streams
+	 * without decode parameters are inflated on the fly and only counted, so
+	 * decoding stops as soon as the limit is exceeded and a stream is never
+	 * held in memory by this method. Streams with other filters can not be
+	 * decoded that way and are charged by the declared decoded length /DL or
+	 * by the encoded /Length, whichever is greater.
+	 *
+	 * @param stream
+	 *            stream to charge
+	 * @throws IOException
+	 *             if the stream can not be read
+	 * @throws ModelBudgetExceededException
+	 *             if the number of decoded bytes exceeds the budget
+	 */
+	public void chargeDecoded(COSStream stream) throws IOException {
+		if (stream == null || this.budget.getLimit(ModelBudget.Kind.DECODED_BYTES) == ModelBudget.UNLIMITED) {
+			return;
+		}
+		long length = Math.max(stream.getLong(COSName.LENGTH), 0);
+		if (getSingleFilter(stream) == null) {
+			addDecodedBytes(length);
+			return;
+		}
+		InputStream decoded = openIncrementally(stream);
+		if (decoded == null) {
+			addDecodedBytes(Math.max(stream.getLong(DECODED_LENGTH), length));
+			return;
+		}
+		try (InputStream tracked = track(decoded)) {
+			byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+			while (tracked.read(buffer) != -1) {
+				// only counted
+			}
+		}
+	}
+
+	/**
+	 * Opens decoded data of a stream, which is decoded while it is read
+	 * instead of being decoded completely by
+	 * {@link COSStream#getUnfilteredStream()}. That is possible for raw
+	 * streams and Flate encoded streams without decode parameters, which
+	 * cover almost all streams of real documents.
+	 *
+	 * @param stream
+	 *            stream to open
+	 * @return decoded data or null, if the stream uses other filters
+	 * @throws IOException
+	 *             if the stream can not be read
+	 */
+	public static InputStream openIncrementally(COSStream stream) throws IOException {
+		if (stream.getDictionaryObject(COSName.DECODE_PARMS) != null) {
+			return null;
+		}
+		COSBase filter = getSingleFilter(stream);
+		if (filter == null) {
+			return stream.getFilteredStream();
+		} else if (COSName.FLATE_DECODE.equals(filter) || COSName.FLATE_DECODE_ABBREVIATION.equals(filter)) {
+			return new InflaterInputStream(stream.getFilteredStream());
+		}
+		return null;
+	}
+
+	/**
+	 * @return the only filter of the stream, null for a raw stream or the
+	 *         filter array of a chain of filters
+	 */
+	private static COSBase getSingleFilter(COSStream stream) {
+		COSBase filters = stream.getFilters();
+		if (filters instanceof COSArray && ((COSArray) filters).size() == 1) {
+			return ((COSArray) filters).getObject(0);
+		} else if (filters instanceof COSArray && ((COSArray) filters).size() == 0) {
+			return null;
+		}
+		return filters;
+	}
+
+	/**
+	 * @return budget of the document
+	 */
+	public ModelBudget getBudget() {
+		return this.budget;
+	}
+
+	/**
+	 * @return statistics of links requested from model objects of the
+	 *         document
+	 */
+	public LinkStatistics getLinkStatistics() {
+		return this.linkStatistics;
+	}
+
+	/**
+	 * @return number of model objects constructed for the document
+	 */
+	public long getModelObjects() {
+		return this.modelObjects.get();
+	}
+
+	/**
+	 * @return number of decoded bytes read by the model
+	 */
+	public long getDecodedBytes() {
+		return this.decodedBytes.get();
+	}
+
+	private void addDecodedBytes(long count) {
+		checkInterrupted();
+		check(ModelBudget.Kind.DECODED_BYTES, this.decodedBytes.addAndGet(count));
+	}
+
+	/**
+	 * Interrupt status is not cleared, so construction stops at the next
+	 * check as well, if a caller swallows the exception.
+	 */
+	private static void checkInterrupted() {
+		if (Thread.currentThread().isInterrupted()) {
+			throw new ModelConstructionInterruptedException();
+		}
+	}
+
+	private void check(ModelBudget.Kind kind, long value) {
+		long limit = this.budget.getLimit(kind);
+		if (limit != ModelBudget.UNLIMITED && value > limit) {
+			throw new ModelBudgetExceededException(kind, limit);
+		}
+	}
+
+	/**
+	 * Actual implementation of the links of a model type
+	 *
+	 * @param <T>
+	 *            model type
+	 */
+	public interface LinkSource<T> {
+
+		/**
+		 * @param object
+		 *            model object
+		 * @param link
+		 *            requested link
+		 * @return objects of the link
+		 */
+		List<? extends org.verapdf.model.baselayer.Object> getLinkedObjects(T object, String link);
+	}
+
+	private static final class TrackedInputStream extends FilterInputStream {
+
+		private final BudgetTracker tracker;
+
+		private TrackedInputStream(InputStream in, BudgetTracker tracker) {
+			super(in);
+			this.tracker = tracker;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) {
+				this.tracker.addDecodedBytes(1);
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = super.read(b, off, len);
+			if (result > 0) {
+				this.tracker.addDecodedBytes(result);
+			}
+			return result;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long result = super.skip(n);
+			if (result > 0) {
+				this.tracker.addDecodedBytes(result);
+			}
+			return result;
+		}
+	}
+}
@@ -20,10 +20,15 @@
  */
 package org.verapdf.model.tools;
 
+import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.font.*;
 import org.apache.pdfbox.preflight.font.container.*;
 import org.verapdf.model.factory.font.FontFactory;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+
+import java.util.Map;
 
 /**
  * Class for transforming Apache PDFBox font to
@@ -40,15 +45,29 @@ public class FontHelper {
 
 	/**
 	 * Transform Apache PDFBox font to Apache Preflight
-	 * font container representation
+	 * font container representation. Containers are cached for the given
+	 * document by identity of the font dictionary.
 	 *
 	 * @param font Apache PDFBox font
+	 * @param document document the font belongs to
 	 * @return Apache Preflight font container
 	 */
-	public static FontContainer<? extends PDFontLike> getFontContainer(PDFont font) {
+	public static FontContainer<? extends PDFontLike> getFontContainer(PDFont font, PDDocument document) {
 		if (font == null) {
 			return null;
 		}
+		Map<COSBase, FontContainer<? extends PDFontLike>> containers = ValidationContext.of(document).getFontContainers();
+		FontContainer<? extends PDFontLike> container = containers.get(font.getCOSObject());
+		if (container == null) {
+			container = createFontContainer(font);
+			if (container != null) {
+				containers.put(font.getCOSObject(), container);
+			}
+		}
+		return container;
+	}
+
+	private static FontContainer<? extends PDFontLike> createFontContainer(PDFont font) {
 		switch (font.getSubType()) {
 			case FontFactory.TYPE_1:
 			case FontFactory.MM_TYPE_1:
@@ -0,0 +1,282 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of calls, number of returned objects and time spent in
+ * {@code getLinkedObjects} per model type and link name.
+ * <p>
+ * Collection is disabled by default and costs one volatile read per call in
+ * that case. It can be enabled with the {@value #ENABLED_PROPERTY} system
+ * property, with {@link #setEnabled(boolean)} or through the
+ * {@value #OBJECT_NAME} MXBean. Every call is recorded into the process-wide
+ * statistics and into the statistics of the document, which are kept by the
+ * {@link BudgetTracker} of the document, whichever thread makes the call.
+ */
+public final class LinkStatistics {
+
+	private static final Logger LOGGER = Logger.getLogger(LinkStatistics.class);
+
+	/** System property enabling the collection on start */
+	public static final String ENABLED_PROPERTY = "org.verapdf.model.linkStatistics";
+	/** Name of the MXBean exposing the process-wide statistics */
+	public static final String OBJECT_NAME = "org.verapdf:type=LinkStatistics";
+
+	private static final LinkStatistics GLOBAL = new LinkStatistics();
+
+	private static volatile boolean enabled;
+	private static boolean isRegistered = false;
+
+	static {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			setEnabled(true);
+		}
+	}
+
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * @return true if calls of {@code getLinkedObjects} are recorded
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the collection. The MXBean is registered on first
+	 * enabling.
+	 */
+	public static void setEnabled(boolean isEnabled) {
+		if (isEnabled) {
+			registerMXBean();
+		}
+		enabled = isEnabled;
+	}
+
+	/**
+	 * @return statistics of all documents processed while the collection was
+	 *         enabled
+	 */
+	public static LinkStatistics getGlobal() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Records a single call of {@code getLinkedObjects}.
+	 *
+	 * @param document
+	 *            statistics of the document of the model object or null
+	 * @param modelType
+	 *            type of the model object
+	 * @param link
+	 *            requested link
+	 * @param objects
+	 *            number of returned objects
+	 * @param nanos
+	 *            time spent in the call
+	 */
+	public static void record(LinkStatistics document, String modelType, String link, int objects, long nanos) {
+		GLOBAL.add(modelType, link, objects, nanos);
+		if (document != null) {
+			document.add(modelType, link, objects, nanos);
+		}
+	}
+
+	private static synchronized void registerMXBean() {
+		if (isRegistered) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBeanImpl(),
+					new ObjectName(OBJECT_NAME));
+		} catch (JMException | SecurityException e) {
+			LOGGER.debug("Can not register link statistics MXBean", e);
+		}
+		isRegistered = true;
+	}
+
+	void add(String modelType, String link, int objects, long nanos) {
+		String key = modelType + '.' + link;
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			Entry newEntry = new Entry(modelType, link);
+			entry = this.entries.putIfAbsent(key, newEntry);
+			if (entry == null) {
+				entry = newEntry;
+			}
+		}
+		entry.calls.incrementAndGet();
+		entry.objects.addAndGet(objects);
+		entry.nanos.addAndGet(nanos);
+	}
+
+	/**
+	 * @return snapshot of all entries, the most time consuming first
+	 */
+	public List<Entry> getEntries() {
+		List<Entry> result = new ArrayList<>(this.entries.values());
+		Collections.sort(result, new Comparator<Entry>() {
+			@Override
+			public int compare(Entry first, Entry second) {
+				return Long.compare(second.getNanos(), first.getNanos());
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Removes all collected entries
+	 */
+	public void reset() {
+		this.entries.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("LinkStatistics [");
+		for (Entry entry : getEntries()) {
+			builder.append(System.lineSeparator()).append("  ").append(entry);
+		}
+		return builder.append(']').toString();
+	}
+
+	/**
+	 * Statistics of a single link of a single model type
+	 */
+	public static final class Entry {
+
+		private final String modelType;
+		private final String link;
+		private final AtomicLong calls = new AtomicLong();
+		private final AtomicLong objects = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+
+		Entry(String modelType, String link) {
+			this.modelType = modelType;
+			this.link = link;
+		}
+
+		public String getModelType() {
+			return this.modelType;
+		}
+
+		public String getLink() {
+			return this.link;
+		}
+
+		public long getCalls() {
+			return this.calls.get();
+		}
+
+		public long getObjects() {
+			return this.objects.get();
+		}
+
+		public long getNanos() {
+			return this.nanos.get();
+		}
+
+		@Override
+		public String toString() {
+			return this.modelType + '.' + this.link + ": calls=" + getCalls() + ", objects=" + getObjects()
+					+ ", nanos=" + getNanos();
+		}
+	}
+
+	/**
+	 * Management interface of the process-wide statistics. Keys of the
+	 * returned maps are {@code <model type>.<link>}.
+	 */
+	public interface LinkStatisticsMXBean {
+
+		boolean isEnabled();
+
+		void setEnabled(boolean isEnabled);
+
+		Map<String, Long> getCalls();
+
+		Map<String, Long> getObjects();
+
+		Map<String, Long> getNanos();
+
+		void reset();
+	}
+
+	private static final class MXBeanImpl implements LinkStatisticsMXBean {
+
+		@Override
+		public boolean isEnabled() {
+			return LinkStatistics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean isEnabled) {
+			LinkStatistics.setEnabled(isEnabled);
+		}
+
+		@Override
+		public Map<String, Long> getCalls() {
+			Map<String, Long> result = new TreeMap<>();
+			for (Entry entry : GLOBAL.getEntries()) {
+				result.put(entry.getModelType() + '.' + entry.getLink(), Long.valueOf(entry.getCalls()));
+			}
+			return result;
+		}
+
+		@Override
+		public Map<String, Long> getObjects() {
+			Map<String, Long> result = new TreeMap<>();
+			for (Entry entry : GLOBAL.getEntries()) {
+				result.put(entry.getModelType() + '.' + entry.getLink(), Long.valueOf(entry.getObjects()));
+			}
+			return result;
+		}
+
+		@Override
+		public Map<String, Long> getNanos() {
+			Map<String, Long> result = new TreeMap<>();
+			for (Entry entry : GLOBAL.getEntries()) {
+				result.put(entry.getModelType() + '.' + entry.getLink(), Long.valueOf(entry.getNanos()));
+			}
+			return result;
+		}
+
+		@Override
+		public void reset() {
+			GLOBAL.reset();
+		}
+	}
+}
@@ -25,6 +25,7 @@ import com.adobe.xmp.impl.VeraPDFMeta;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.util.DateConverter;
+import org.verapdf.model.impl.pb.containers.XMPMetadataCache;
 
 import java.io.IOException;
 import java.util.Calendar;
@@ -75,9 +76,11 @@ public final class XMPChecker {
 	 *
 	 * @param document
 	 *            which will be tested
+	 * @param xmpMetadataCache
+	 *            cache of parsed metadata streams of the document
 	 * @return true if fields of xmp matches with fields of info dictionary
 	 */
-	public static Boolean doesInfoMatchXMP(COSDocument document) {
+	public static Boolean doesInfoMatchXMP(COSDocument document, XMPMetadataCache xmpMetadataCache) {
 		COSDictionary info = getInformationDictionary(document);
 		if (info == null) {
 			return Boolean.TRUE;
@@ -86,7 +89,7 @@ public final class XMPChecker {
 		try {
 			COSStream meta = getMetadataDictionary(document);
 			if (meta != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(meta.getUnfilteredStream());
+				VeraPDFMeta metadata = xmpMetadataCache.getMetadata(meta);
 
 				Map<String, Object> properties = new HashMap<>(MAX_REQUIRED_RECORDS);
 
@@ -0,0 +1,481 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools.transparency;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.contentstream.PDContentStream;
+import org.apache.pdfbox.cos.*;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
+import org.apache.pdfbox.pdmodel.font.PDType3Font;
+import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDGroup;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObjectProxy;
+import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
+import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
+import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.factory.font.FontFactory;
+import org.verapdf.model.tools.constants.Operators;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Lightweight transparency check of content streams. Tokens of the stream
+ * are walked with a minimal graphic state, which holds only the properties
+ * used by {@link TransparencyBehaviour}, and no operators of veraPDF model
+ * are created. The result is the same as the one of
+ * {@link org.verapdf.model.impl.pb.pd.PBoxPDContentStream#isContainsTransparency()}.
+ * <p>
+ * Form XObjects, tiling patterns and Type3 glyph procedures are scanned
+ * recursively. The result for each of them is remembered by the scanner, so
+ * one instance should be used for all streams of the same page.
+ */
+public class TransparencyScanner {
+
+	private static final Logger LOGGER = Logger.getLogger(TransparencyScanner.class);
+
+	private static final COSName NORMAL = COSName.getPDFName("Normal");
+	private static final COSName SMASK_IN_DATA = COSName.getPDFName("SMaskInData");
+
+	private final Map<Key, Boolean> scannedStreams = new HashMap<>();
+
+	/**
+	 * @param contentStream content stream to check
+	 * @param resources     resources of the content stream
+	 * @return true if painting of the given content stream uses transparency
+	 */
+	public boolean containsTransparency(PDContentStream contentStream, PDInheritableResources resources) {
+		COSStream stream = contentStream.getContentStream();
+		if (stream == null) {
+			return false;
+		}
+		Key key = new Key(stream, resources);
+		Boolean result = this.scannedStreams.get(key);
+		if (result == null) {
+			// recursive references to the same stream are treated as opaque
+			this.scannedStreams.put(key, Boolean.FALSE);
+			result = Boolean.valueOf(scan(stream, resources));
+			this.scannedStreams.put(key, result);
+		}
+		return result.booleanValue();
+	}
+
+	private boolean scan(COSStream stream, PDInheritableResources resources) {
+		Deque<State> stateStack = new ArrayDeque<>();
+		State state = new State();
+		List<COSBase> arguments = new ArrayList<>();
+		try {
+			PDFStreamParser streamParser = new PDFStreamParser(stream, true);
+			Object token = streamParser.parseNextToken();
+			while (token != null) {
+				if (token instanceof COSBase) {
+					arguments.add((COSBase) token);
+				} else if (token instanceof org.apache.pdfbox.contentstream.operator.Operator) {
+					String operator = ((org.apache.pdfbox.contentstream.operator.Operator) token).getName();
+					if (Operators.Q_GSAVE.equals(operator)) {
+						stateStack.push(state.copy());
+					} else if (Operators.Q_GRESTORE.equals(operator)) {
+						if (!stateStack.isEmpty()) {
+							state = stateStack.pop();
+						}
+					} else if (processOperator(operator, arguments, state, resources)) {
+						return true;
+					}
+					arguments.clear();
+				}
+				token = streamParser.parseNextToken();
+			}
+		} catch (IOException e) {
+			LOGGER.debug("Error while parsing content stream. " + e.getMessage(), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the state and checks painting operators
+	 *
+	 * @return true if the given operator paints with transparency
+	 */
+	private boolean processOperator(String operator, List<COSBase> arguments, State state,
+									PDInheritableResources resources) {
+		switch (operator) {
+			// GENERAL GS
+			case Operators.GS:
+				copyPropertiesFromExtGState(state, resources.getExtGState(getLastCOSName(arguments)));
+				return false;
+
+			// COLOR
+			case Operators.G_STROKE:
+			case Operators.RG_STROKE:
+			case Operators.K_STROKE:
+				state.strokePatternSpace = false;
+				return false;
+			case Operators.G_FILL:
+			case Operators.RG_FILL:
+			case Operators.K_FILL:
+				state.fillPatternSpace = false;
+				return false;
+			case Operators.CS_STROKE:
+				state.strokePatternSpace = isPatternColorSpace(resources, getFirstCOSName(arguments));
+				return false;
+			case Operators.CS_FILL:
+				state.fillPatternSpace = isPatternColorSpace(resources, getFirstCOSName(arguments));
+				return false;
+			case Operators.SCN_STROKE:
+				if (state.strokePatternSpace) {
+					state.strokePattern = getPattern(resources, getLastCOSName(arguments));
+				}
+				return false;
+			case Operators.SCN_FILL:
+				if (state.fillPatternSpace) {
+					state.fillPattern = getPattern(resources, getLastCOSName(arguments));
+				}
+				return false;
+
+			// TEXT STATE
+			case Operators.TR:
+				state.renderingMode = getRenderingMode(arguments);
+				return false;
+			case Operators.TF:
+				state.fontName = getFirstCOSName(arguments);
+				return false;
+
+			// TEXT SHOW
+			case Operators.TJ_SHOW:
+			case Operators.TJ_SHOW_POS:
+			case Operators.QUOTE:
+			case Operators.DOUBLE_QUOTE:
+				return isTextTransparent(arguments, state, resources);
+
+			// PATH PAINT
+			case Operators.S_STROKE:
+			case Operators.S_CLOSE_STROKE:
+				return isPaintTransparent(state, resources, false, true);
+			case Operators.F_FILL:
+			case Operators.F_FILL_OBSOLETE:
+			case Operators.F_STAR_FILL:
+				return isPaintTransparent(state, resources, true, false);
+			case Operators.B_FILL_STROKE:
+			case Operators.B_STAR_EOFILL_STROKE:
+			case Operators.B_CLOSEPATH_FILL_STROKE:
+			case Operators.B_STAR_CLOSEPATH_EOFILL_STROKE:
+				return isPaintTransparent(state, resources, true, true);
+
+			// SHADING AND INLINE IMAGE
+			case Operators.SH:
+			case Operators.EI:
+				return baseCheck(state) || state.fillAlpha < 1.0f;
+
+			// XOBJECT
+			case Operators.DO:
+				return baseCheck(state) || state.fillAlpha < 1.0f
+						|| isXObjectTransparent(resources, getLastCOSName(arguments));
+			default:
+				return false;
+		}
+	}
+
+	private boolean isPaintTransparent(State state, PDInheritableResources resources, boolean fill, boolean stroke) {
+		if (baseCheck(state)) {
+			return true;
+		}
+		if (fill && state.fillAlpha < 1.0f) {
+			return true;
+		}
+		if (stroke && state.strokeAlpha < 1.0f) {
+			return true;
+		}
+		if (fill && state.fillPatternSpace && isPatternTransparent(state.fillPattern, resources)) {
+			return true;
+		}
+		return stroke && state.strokePatternSpace && isPatternTransparent(state.strokePattern, resources);
+	}
+
+	private boolean isTextTransparent(List<COSBase> arguments, State state, PDInheritableResources resources) {
+		RenderingMode renderingMode = state.renderingMode;
+		if (!renderingMode.isFill() && !renderingMode.isStroke()) {
+			return false;
+		}
+		if (isPaintTransparent(state, resources, renderingMode.isFill(), renderingMode.isStroke())) {
+			return true;
+		}
+		return isType3FontTransparent(arguments, state.fontName, resources);
+	}
+
+	private boolean isPatternTransparent(PDAbstractPattern pattern, PDInheritableResources resources) {
+		if (pattern instanceof PDTilingPattern) {
+			PDTilingPattern tiling = (PDTilingPattern) pattern;
+			return containsTransparency(tiling, resources.getExtendedResources(tiling.getResources()));
+		}
+		return false;
+	}
+
+	private boolean isType3FontTransparent(List<COSBase> arguments, COSName fontName,
+										   PDInheritableResources resources) {
+		PDFont font = getFont(resources, fontName);
+		if (!(font instanceof PDType3Font) || !FontFactory.TYPE_3.equals(font.getSubType())) {
+			return false;
+		}
+		PDType3Font type3Font = (PDType3Font) font;
+		Encoding encoding = type3Font.getEncoding();
+		if (encoding == null) {
+			return false;
+		}
+		PDInheritableResources fontResources = resources.getExtendedResources(type3Font.getResources());
+		for (byte glyphCode : getCharCodes(arguments)) {
+			PDType3CharProc charProc = type3Font.getCharProc(COSName.getPDFName(encoding.getName(glyphCode)));
+			if (charProc != null && containsTransparency(charProc, fontResources)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isXObjectTransparent(PDInheritableResources resources, COSName name) {
+		PDXObject xObject = getXObject(resources, name);
+		if (xObject instanceof PDFormXObject) {
+			PDFormXObject form = (PDFormXObject) xObject;
+			PDGroup group = form.getGroup();
+			if (group != null && COSName.TRANSPARENCY.equals(group.getSubType())) {
+				return true;
+			}
+			return containsTransparency(form, resources.getExtendedResources(form.getResources()));
+		} else if (xObject instanceof PDImageXObjectProxy) {
+			COSStream image = xObject.getCOSStream();
+			if (image.getDictionaryObject(COSName.SMASK) instanceof COSStream) {
+				return true;
+			}
+			COSBase sMaskInData = image.getDictionaryObject(SMASK_IN_DATA);
+			return sMaskInData instanceof COSNumber && ((COSNumber) sMaskInData).doubleValue() > 0;
+		}
+		return false;
+	}
+
+	private static boolean baseCheck(State state) {
+		if (state.sMask instanceof COSDictionary) {
+			return true;
+		}
+		COSBase bm = state.bm;
+		if (bm instanceof COSName) {
+			return !NORMAL.equals(bm);
+		} else if (bm instanceof COSArray) {
+			COSArray bmArray = (COSArray) bm;
+			return bmArray.size() != 1 || !NORMAL.equals(bmArray.get(0));
+		}
+		return bm != null;
+	}
+
+	private static void copyPropertiesFromExtGState(State state, PDExtendedGraphicsState extGState) {
+		if (extGState == null) {
+			return;
+		}
+		try {
+			if (extGState.getFontSetting() != null) {
+				state.fontName = COSName.getPDFName(extGState.getFontSetting().getFont().getName());
+			}
+		} catch (IOException e) {
+			LOGGER.debug(e);
+		}
+		COSDictionary cosObject = extGState.getCOSObject();
+		COSBase sMask = cosObject.getDictionaryObject(COSName.SMASK);
+		if (sMask != null) {
+			state.sMask = sMask;
+		}
+		COSBase bm = cosObject.getDictionaryObject(COSName.BM);
+		if (bm != null) {
+			state.bm = bm;
+		}
+		COSBase fillAlpha = cosObject.getDictionaryObject(COSName.CA_NS);
+		if (fillAlpha instanceof COSNumber) {
+			state.fillAlpha = ((COSNumber) fillAlpha).floatValue();
+		}
+		COSBase strokeAlpha = cosObject.getDictionaryObject(COSName.CA);
+		if (strokeAlpha instanceof COSNumber) {
+			state.strokeAlpha = ((COSNumber) strokeAlpha).floatValue();
+		}
+	}
+
+	private static byte[] getCharCodes(List<COSBase> arguments) {
+		if (arguments.isEmpty()) {
+			return new byte[0];
+		}
+		COSBase argument = arguments.get(0);
+		if (argument instanceof COSString) {
+			return ((COSString) argument).getBytes();
+		} else if (argument instanceof COSArray) {
+			ByteArrayOutputStream codes = new ByteArrayOutputStream();
+			for (COSBase element : (COSArray) argument) {
+				if (element instanceof COSString) {
+					byte[] bytes = ((COSString) element).getBytes();
+					codes.write(bytes, 0, bytes.length);
+				}
+			}
+			return codes.toByteArray();
+		}
+		return new byte[0];
+	}
+
+	private static RenderingMode getRenderingMode(List<COSBase> arguments) {
+		if (!arguments.isEmpty()) {
+			COSBase renderingMode = arguments.get(0);
+			if (renderingMode instanceof COSInteger) {
+				try {
+					return RenderingMode.fromInt(((COSInteger) renderingMode).intValue());
+				} catch (ArrayIndexOutOfBoundsException e) {
+					LOGGER.debug("Rendering mode value is incorrect : " + renderingMode, e);
+				}
+			}
+		}
+		return RenderingMode.FILL;
+	}
+
+	private static boolean isPatternColorSpace(PDInheritableResources resources, COSName name) {
+		try {
+			PDColorSpace colorSpace = resources.getColorSpace(name);
+			return colorSpace != null && ColorSpaceFactory.PATTERN.equals(colorSpace.getName());
+		} catch (IOException e) {
+			LOGGER.debug("Problem encountered while obtaining color space " + name + ". " + e.getMessage(), e);
+			return false;
+		}
+	}
+
+	private static PDAbstractPattern getPattern(PDInheritableResources resources, COSName name) {
+		try {
+			return resources.getPattern(name);
+		} catch (IOException e) {
+			LOGGER.debug("Problem encountered while obtaining pattern " + name + ". " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private static PDFont getFont(PDInheritableResources resources, COSName name) {
+		if (name == null) {
+			return null;
+		}
+		try {
+			return resources.getFont(name);
+		} catch (IOException e) {
+			LOGGER.debug("Problem encountered while obtaining font " + name + ". " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private static PDXObject getXObject(PDInheritableResources resources, COSName name) {
+		try {
+			return resources.getXObject(name);
+		} catch (IOException e) {
+			LOGGER.debug("Problem encountered while obtaining XObject " + name + ". " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private static COSName getFirstCOSName(List<COSBase> arguments) {
+		COSBase firstElement = arguments.isEmpty() ? null : arguments.get(0);
+		return firstElement instanceof COSName ? (COSName) firstElement : null;
+	}
+
+	private static COSName getLastCOSName(List<COSBase> arguments) {
+		COSBase lastElement = arguments.isEmpty() ? null : arguments.get(arguments.size() - 1);
+		return lastElement instanceof COSName ? (COSName) lastElement : null;
+	}
+
+	/**
+	 * Properties of the graphic state that affect transparency
+	 */
+	private static class State {
+		private COSBase sMask = null;
+		private COSBase bm = null;
+		private float strokeAlpha = 1;
+		private float fillAlpha = 1;
+		private boolean fillPatternSpace = false;
+		private boolean strokePatternSpace = false;
+		private PDAbstractPattern fillPattern = null;
+		private PDAbstractPattern strokePattern = null;
+		private RenderingMode renderingMode = RenderingMode.FILL;
+		private COSName fontName = null;
+
+		private State copy() {
+			State copy = new State();
+			copy.sMask = this.sMask;
+			copy.bm = this.bm;
+			copy.strokeAlpha = this.strokeAlpha;
+			copy.fillAlpha = this.fillAlpha;
+			copy.fillPatternSpace = this.fillPatternSpace;
+			copy.strokePatternSpace = this.strokePatternSpace;
+			copy.fillPattern = this.fillPattern;
+			copy.strokePattern = this.strokePattern;
+			copy.renderingMode = this.renderingMode;
+			copy.fontName = this.fontName;
+			return copy;
+		}
+	}
+
+	/**
+	 * Identity of the scanned stream together with its effective resources
+	 */
+	private static final class Key {
+		private final COSStream stream;
+		private final COSDictionary inheritedResources;
+		private final COSDictionary currentResources;
+
+		private Key(COSStream stream, PDInheritableResources resources) {
+			this.stream = stream;
+			this.inheritedResources = getDictionary(resources.getInheritedResources());
+			this.currentResources = getDictionary(resources.getCurrentResources());
+		}
+
+		private static COSDictionary getDictionary(PDResources resources) {
+			return resources == null ? null : resources.getCOSObject();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return this.stream == that.stream
+					&& this.inheritedResources == that.inheritedResources
+					&& this.currentResources == that.currentResources;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.stream);
+			result = 31 * result + System.identityHashCode(this.inheritedResources);
+			result = 31 * result + System.identityHashCode(this.currentResources);
+			return result;
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.verapdf.component.Components;
 import org.verapdf.core.EncryptedPdfException;
 import org.verapdf.core.ModelParsingException;
 import org.verapdf.metadata.fixer.PBoxMetadataFixerImpl;
+import org.verapdf.model.LoadingOptions;
 import org.verapdf.model.ModelParser;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -93,6 +94,28 @@ class PdfBoxFoundry extends AbstractFoundry {
 		return createParser(file, PDFAFlavour.NO_FLAVOUR);
 	}
 
+	/**
+	 * Creates parser for the given stream that loads the document according to
+	 * the given memory settings.
+	 *
+	 * @see ModelParser#createModelWithFlavour(InputStream, PDFAFlavour, LoadingOptions)
+	 */
+	public PDFAParser createParser(InputStream pdfStream, PDFAFlavour flavour, LoadingOptions options)
+			throws ModelParsingException, EncryptedPdfException {
+		return ModelParser.createModelWithFlavour(pdfStream, flavour, options);
+	}
+
+	/**
+	 * Creates parser for the given file that limits the model of the document
+	 * according to the given loading options.
+	 *
+	 * @see ModelParser#createModelWithFlavour(File, PDFAFlavour, LoadingOptions)
+	 */
+	public PDFAParser createParser(File file, PDFAFlavour flavour, LoadingOptions options)
+			throws ModelParsingException, EncryptedPdfException {
+		return ModelParser.createModelWithFlavour(file, flavour, options);
+	}
+
 	/**
 	 * @see org.verapdf.pdfa.VeraPDFFoundry#newMetadataFixer(org.verapdf.metadata.fixer.utils.FixerConfig)
 	 */
@@ -20,6 +20,7 @@
  */
 package org.verapdf.model;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -28,9 +29,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.verapdf.core.EncryptedPdfException;
 import org.verapdf.core.ModelParsingException;
+import org.verapdf.model.coslayer.CosDocument;
 import org.verapdf.pdfa.Foundries;
 import org.verapdf.pdfa.PDFAParser;
 import org.verapdf.pdfa.PdfBoxFoundryProvider;
@@ -43,6 +47,9 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 @SuppressWarnings({ "javadoc" })
 public class ModelParserTest {
 
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
 	@Test
 	public void testExistingFile() throws URISyntaxException, IOException, ModelParsingException, EncryptedPdfException {
 		String path = getSystemIndependentPath("/model/impl/pb/pd/Fonts.pdf");
@@ -53,6 +60,88 @@ public class ModelParserTest {
 		}
 	}
 
+	@Test
+	public void testLoadingWithMainMemoryLimit()
+			throws URISyntaxException, IOException, ModelParsingException, EncryptedPdfException {
+		String path = getSystemIndependentPath("/model/impl/pb/pd/Fonts.pdf");
+		File scratchDirectory = this.scratch.newFolder();
+		LoadingOptions options = LoadingOptions.withMainMemoryLimit(0).withScratchDirectory(scratchDirectory);
+		PdfBoxFoundryProvider.initialise();
+		try (FileInputStream fis = new FileInputStream(path);
+				PDFAParser loader = ModelParser.createModelWithFlavour(fis, PDFAFlavour.NO_FLAVOUR, options)) {
+			Assert.assertNotNull(loader.getRoot());
+		}
+		try (PDFAParser loader = ModelParser.createModelWithFlavour(new File(path), PDFAFlavour.NO_FLAVOUR,
+				options)) {
+			Assert.assertNotNull(loader.getRoot());
+		}
+	}
+
+	@Test
+	public void testSyntaxPropertiesDoNotDependOnMemoryLimit()
+			throws URISyntaxException, IOException, ModelParsingException, EncryptedPdfException {
+		String path = getSystemIndependentPath("/model/impl/pb/cos/veraPDF test suite 6-1-2-t02-fail-a.pdf");
+		File scratchDirectory = this.scratch.newFolder();
+		PdfBoxFoundryProvider.initialise();
+		try (ModelParser mainMemory = ModelParser.createModelWithFlavour(new File(path), PDFAFlavour.PDFA_1_B)) {
+			CosDocument expected = (CosDocument) mainMemory.getRoot();
+			for (long limit : new long[] { 0, new File(path).length() }) {
+				LoadingOptions options = LoadingOptions.withMainMemoryLimit(limit)
+						.withScratchDirectory(scratchDirectory);
+				try (ModelParser limited = ModelParser.createModelWithFlavour(new File(path), PDFAFlavour.PDFA_1_B,
+						options)) {
+					assertSyntaxProperties(expected, (CosDocument) limited.getRoot());
+				}
+				try (FileInputStream fis = new FileInputStream(path);
+						ModelParser limited = ModelParser.createModelWithFlavour(fis, PDFAFlavour.PDFA_1_B,
+								options)) {
+					assertSyntaxProperties(expected, (CosDocument) limited.getRoot());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testScratchFileIsDeletedOnClose()
+			throws URISyntaxException, IOException, ModelParsingException, EncryptedPdfException {
+		String path = getSystemIndependentPath("/model/impl/pb/pd/Fonts.pdf");
+		File scratchDirectory = this.scratch.newFolder();
+		PdfBoxFoundryProvider.initialise();
+		try (FileInputStream fis = new FileInputStream(path);
+				ModelParser loader = ModelParser.createModelWithFlavour(fis, PDFAFlavour.NO_FLAVOUR,
+						LoadingOptions.withMainMemoryLimit(1024).withScratchDirectory(scratchDirectory))) {
+			Assert.assertEquals(1, scratchDirectory.list().length);
+		}
+		Assert.assertEquals(0, scratchDirectory.list().length);
+		try (FileInputStream fis = new FileInputStream(path);
+				ModelParser loader = ModelParser.createModelWithFlavour(fis, PDFAFlavour.NO_FLAVOUR,
+						LoadingOptions.withMainMemoryLimit(new File(path).length())
+								.withScratchDirectory(scratchDirectory))) {
+			Assert.assertEquals(0, scratchDirectory.list().length);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMainMemoryLimit() {
+		LoadingOptions.withMainMemoryLimit(-2);
+	}
+
+	private static void assertSyntaxProperties(CosDocument expected, CosDocument actual) {
+		Assert.assertEquals(expected.getnrIndirects(), actual.getnrIndirects());
+		Assert.assertEquals(expected.getversion(), actual.getversion());
+		Assert.assertEquals(expected.getheaderOffset(), actual.getheaderOffset());
+		Assert.assertEquals(expected.getheader(), actual.getheader());
+		Assert.assertEquals(expected.getheaderByte1(), actual.getheaderByte1());
+		Assert.assertEquals(expected.getheaderByte2(), actual.getheaderByte2());
+		Assert.assertEquals(expected.getheaderByte3(), actual.getheaderByte3());
+		Assert.assertEquals(expected.getheaderByte4(), actual.getheaderByte4());
+		Assert.assertEquals(expected.getpostEOFDataSize(), actual.getpostEOFDataSize());
+		Assert.assertEquals(expected.getfirstPageID(), actual.getfirstPageID());
+		Assert.assertEquals(expected.getlastID(), actual.getlastID());
+		Assert.assertEquals(expected.getisLinearized(), actual.getisLinearized());
+		Assert.assertEquals(expected.getisOptionalContentPresent(), actual.getisOptionalContentPresent());
+	}
+
 	private static String getSystemIndependentPath(String path) throws URISyntaxException {
 		URL resourceUrl = ClassLoader.class.getResource(path);
 		Path resourcePath = Paths.get(resourceUrl.toURI());
@@ -0,0 +1,109 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.batch;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.LoadingOptions;
+import org.verapdf.model.ModelParser;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchProcessorTest {
+
+	private static final String FILE_PATH = "/model/impl/pb/pd/Fonts.pdf";
+
+	@Test
+	public void testResultsAreInSubmissionOrder() throws URISyntaxException {
+		PdfBoxFoundryProvider.initialise();
+		File existing = new File(BatchProcessorTest.class.getResource(FILE_PATH).toURI());
+		File missing = new File(existing.getParentFile(), "missing.pdf");
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			files.add(i % 3 == 1 ? missing : existing);
+		}
+
+		try (BatchProcessor processor = new BatchProcessor(3, 1, TimeUnit.MINUTES)) {
+			Iterator<BatchResult<Boolean>> results = processor.process(files, PDFAFlavour.NO_FLAVOUR,
+					new DocumentProcessor<Boolean>() {
+						@Override
+						public Boolean process(ModelParser parser) {
+							return Boolean.valueOf(parser.getRoot() != null);
+						}
+					});
+			for (File file : files) {
+				Assert.assertTrue(results.hasNext());
+				BatchResult<Boolean> result = results.next();
+				Assert.assertSame(file, result.getFile());
+				if (file == missing) {
+					Assert.assertNotNull(result.getError());
+				} else {
+					Assert.assertTrue(result.isSuccess());
+					Assert.assertEquals(Boolean.TRUE, result.getResult());
+				}
+			}
+			Assert.assertFalse(results.hasNext());
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testRunawayDocumentReleasesWorker() throws URISyntaxException {
+		PdfBoxFoundryProvider.initialise();
+		File existing = new File(BatchProcessorTest.class.getResource(FILE_PATH).toURI());
+		List<File> files = new ArrayList<>();
+		files.add(existing);
+		files.add(existing);
+		final AtomicInteger calls = new AtomicInteger();
+
+		try (BatchProcessor processor = new BatchProcessor(1, 1, 200, TimeUnit.MILLISECONDS,
+				LoadingOptions.defaultOptions())) {
+			Iterator<BatchResult<Boolean>> results = processor.process(files, PDFAFlavour.NO_FLAVOUR,
+					new DocumentProcessor<Boolean>() {
+						@Override
+						public Boolean process(ModelParser parser) {
+							org.verapdf.model.baselayer.Object root = parser.getRoot();
+							if (calls.incrementAndGet() > 1) {
+								return Boolean.valueOf(root != null);
+							}
+							// busy model traversal, which never checks interruption itself
+							while (true) {
+								for (String link : root.getLinks()) {
+									root.getLinkedObjects(link);
+								}
+							}
+						}
+					});
+			Assert.assertTrue(results.next().isTimedOut());
+			// the only worker is free again and processes the next document
+			BatchResult<Boolean> next = results.next();
+			Assert.assertTrue(next.isSuccess());
+			Assert.assertEquals(Boolean.TRUE, next.getResult());
+		}
+	}
+}
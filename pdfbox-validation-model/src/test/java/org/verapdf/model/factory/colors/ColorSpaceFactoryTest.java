@@ -30,6 +30,7 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.pdlayer.*;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 
@@ -58,6 +59,7 @@ public class ColorSpaceFactoryTest {
 		String fileAbsolutePath = getSystemIndependentPath(FILE_RELATIVE_PATH);
 		File file = new File(fileAbsolutePath);
 		document = PDDocument.load(file, false, true);
+		ValidationContext.create(document);
 		resources = document.getPage(0).getResources();
 	}
 
@@ -149,6 +151,7 @@ public class ColorSpaceFactoryTest {
 	@AfterClass
 	public static void tearDown() throws IOException {
 		resources = null;
+		ValidationContext.release(document);
 		document.close();
 		document = null;
 	}
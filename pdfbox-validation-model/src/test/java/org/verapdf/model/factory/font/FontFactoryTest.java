@@ -24,14 +24,17 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDTrueTypeFont;
 import org.verapdf.model.pdlayer.PDType0Font;
 import org.verapdf.model.pdlayer.PDType1Font;
 import org.verapdf.model.pdlayer.PDType3Font;
+import org.verapdf.model.tools.resources.PDInheritableResources;
 
 import java.io.File;
 import java.io.IOException;
@@ -55,6 +58,7 @@ public class FontFactoryTest {
 		String fileAbsolutePath = getSystemIndependentPath(FILE_RELATIVE_PATH);
 		File file = new File(fileAbsolutePath);
 		document = PDDocument.load(file, false, true);
+		ValidationContext.create(document);
 		resources = document.getPage(0).getResources();
 	}
 
@@ -95,9 +99,34 @@ public class FontFactoryTest {
 		Assert.assertTrue(FontFactory.parseFont(font, document, null) instanceof PDTrueTypeFont);
 	}
 
+	@Test
+	public void testFontsAreInterned() throws IOException {
+		PDFont font = resources.getFont(COSName.getPDFName("TT0"));
+		org.verapdf.model.pdlayer.PDFont convertedFont = FontFactory.parseFont(font, document, null);
+		Assert.assertSame(convertedFont, FontFactory.parseFont(font, document, null));
+		Assert.assertNotSame(convertedFont, FontFactory.parseFont(font, RenderingMode.STROKE,
+				PDInheritableResources.EMPTY_EXTENDED_RESOURCES, document, null));
+	}
+
+	@Test
+	public void testInheritedFontsAreInternedSeparately() throws IOException {
+		PDFont font = resources.getFont(COSName.getPDFName("T1_0"));
+		org.verapdf.model.pdlayer.PDFont direct = FontFactory.parseFont(font, document, null);
+		font.setInherited(true);
+		try {
+			org.verapdf.model.pdlayer.PDFont inherited = FontFactory.parseFont(font, document, null);
+			Assert.assertNotSame(direct, inherited);
+			Assert.assertEquals(Boolean.FALSE, direct.getisInherited());
+			Assert.assertEquals(Boolean.TRUE, inherited.getisInherited());
+		} finally {
+			font.setInherited(false);
+		}
+	}
+
 	@AfterClass
 	public static void tearDown() throws IOException {
 		resources = null;
+		ValidationContext.release(document);
 		document.close();
 		document = null;
 	}
@@ -21,13 +21,24 @@
 package org.verapdf.model.factory.operator;
 
 import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingIntent;
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.tools.resources.PDInheritableResources;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -35,30 +46,69 @@ import java.util.List;
 /**
  * @author Evgeniy Muravitskiy
  */
-@RunWith(Parameterized.class)
+@RunWith(Enclosed.class)
 public class OperatorFactoryTest {
 
-	@Parameterized.Parameters
-	public static Collection<Object[]> data() {
-		List<Object[]> parameters = new ArrayList<>();
-		parameters.add(new Object[] {new COSString("Test COSBase case."), new Integer(0)});
-		parameters.add(new Object[] {Operator.getOperator("q"), new Integer(1)});
-		parameters.add(new Object[] {RenderingIntent.ABSOLUTE_COLORIMETRIC, new Integer(0)});
-		parameters.add(new Object[] {"Unsupported type of object.", new Integer(0)});
-		return parameters;
+	@RunWith(Parameterized.class)
+	public static class TokensTest {
+
+		@Parameterized.Parameters
+		public static Collection<Object[]> data() {
+			List<Object[]> parameters = new ArrayList<>();
+			parameters.add(new Object[] {new COSString("Test COSBase case."), new Integer(0)});
+			parameters.add(new Object[] {Operator.getOperator("q"), new Integer(1)});
+			parameters.add(new Object[] {RenderingIntent.ABSOLUTE_COLORIMETRIC, new Integer(0)});
+			parameters.add(new Object[] {"Unsupported type of object.", new Integer(0)});
+			return parameters;
+		}
+
+		@Parameterized.Parameter
+		public Object fInput;
+
+		@Parameterized.Parameter(value = 1)
+		public int fExpected;
+
+		@Test
+		public void testOperatorsFromTokensMethod() {
+			List<Object> input = new ArrayList<>(1);
+			input.add(fInput);
+			Assert.assertEquals(fExpected, new OperatorFactory().operatorsFromTokens(input, null, null, null).size());
+		}
 	}
 
-	@Parameterized.Parameter
-	public Object fInput;
+	public static class StreamingTest {
+
+		private static final String FILE_PATH = "/model/impl/pb/operator/Operators.pdf";
+
+		@Test
+		public void testStreamingParsingMatchesTokensParsing() throws IOException, URISyntaxException {
+			File file = new File(OperatorFactoryTest.class.getResource(FILE_PATH).toURI());
+			try (PDDocument document = PDDocument.load(file, false, true)) {
+				ValidationContext.create(document);
+				try {
+					COSStream stream = (COSStream) document.getDocument()
+							.getObjectFromPool(new COSObjectKey(15, 0)).getObject();
+					PDResources resources = document.getPage(0).getResources();
+
+					PDFStreamParser tokensParser = new PDFStreamParser(stream, true);
+					tokensParser.parse();
+					List<org.verapdf.model.operator.Operator> expected = new OperatorFactory().operatorsFromTokens(
+							tokensParser.getTokens(), PDInheritableResources.getInstance(resources), document, null);
 
-	@Parameterized.Parameter(value = 1)
-	public int fExpected;
+					OperatorFactory factory = new OperatorFactory();
+					List<org.verapdf.model.operator.Operator> actual = factory.operatorsFromParser(
+							new PDFStreamParser(stream, true), PDInheritableResources.getInstance(resources), document,
+							null);
 
-	@Test
-	public void testOperatorsFromTokensMethod() {
-		List<Object> input = new ArrayList<>(1);
-		input.add(fInput);
-		Assert.assertEquals(fExpected, new OperatorFactory().operatorsFromTokens(input, null, null, null).size());
+					Assert.assertEquals(expected.size(), actual.size());
+					for (int i = 0; i < expected.size(); ++i) {
+						Assert.assertEquals(expected.get(i).getObjectType(), actual.get(i).getObjectType());
+					}
+				} finally {
+					ValidationContext.release(document);
+				}
+			}
+		}
 	}
 
 }
@@ -25,6 +25,7 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Test;
 import org.verapdf.model.ModelHelper;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -78,6 +79,7 @@ public abstract class BaseTest {
 		actual = null;
 
 		if (document != null) {
+			ValidationContext.release(document);
 			document.close();
 		}
 	}
@@ -86,6 +88,7 @@ public abstract class BaseTest {
 		String fileAbsolutePath = getSystemIndependentPath(BASE_FOLDER + path);
 		File file = new File(fileAbsolutePath);
 		document = PDDocument.load(file, false, true);
+		ValidationContext.create(document);
 	}
 
 	protected static String getSystemIndependentPath(String path) throws URISyntaxException {
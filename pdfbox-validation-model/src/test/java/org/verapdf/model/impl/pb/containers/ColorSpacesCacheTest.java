@@ -0,0 +1,51 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSName;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.pd.colors.PBoxPDDeviceGray;
+import org.verapdf.model.pdlayer.PDColorSpace;
+
+public class ColorSpacesCacheTest {
+
+	@Test
+	public void testSharedColorSpace() {
+		ColorSpacesCache cache = new ColorSpacesCache();
+		COSArray array = new COSArray();
+		array.add(COSName.ICCBASED);
+		PDColorSpace colorSpace = PBoxPDDeviceGray.getInstance();
+
+		Assert.assertNull(cache.get(array, false, 1, true));
+		cache.put(array, false, 1, true, colorSpace);
+		Assert.assertSame(colorSpace, cache.get(array, false, 1, true));
+		Assert.assertNull(cache.get(array, true, 1, true));
+		Assert.assertNull(cache.get(array, false, 0, true));
+		Assert.assertNull(cache.get(array, false, 1, false));
+		Assert.assertNull(cache.get(new COSArray(), false, 1, true));
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(5, cache.getMisses());
+		Assert.assertEquals(1, cache.size());
+	}
+
+}
@@ -0,0 +1,59 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+public class FormXObjectsCacheTest {
+
+	@Test
+	public void testHitsAndMisses() {
+		FormXObjectsCache cache = new FormXObjectsCache();
+		COSObjectKey key = new COSObjectKey(10, 0);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+		PBoxPDContentStream stream = new PBoxPDContentStream(null, resources, null, null);
+
+		Assert.assertNull(cache.get(key, resources));
+		cache.put(key, resources, stream);
+		Assert.assertSame(stream, cache.get(key, resources));
+		Assert.assertSame(stream, cache.get(new COSObjectKey(10, 0), resources));
+
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testDifferentResources() {
+		FormXObjectsCache cache = new FormXObjectsCache();
+		COSObjectKey key = new COSObjectKey(10, 0);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+		cache.put(key, resources, new PBoxPDContentStream(null, resources, null, null));
+
+		Assert.assertNull(cache.get(key, PDInheritableResources.getInstance(new PDResources())));
+		Assert.assertNull(cache.get(null, resources));
+	}
+
+}
@@ -0,0 +1,51 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.operator.textshow.PBGlyph;
+
+import java.io.IOException;
+
+public class GlyphsCacheTest {
+
+	@Test
+	public void testSharedGlyph() throws IOException {
+		GlyphsCache cache = new GlyphsCache();
+		COSDictionary dictionary = new COSDictionary();
+		dictionary.setItem(COSName.BASE_FONT, COSName.getPDFName("Helvetica"));
+		PDType1Font font = new PDType1Font(dictionary);
+		PBGlyph glyph = new PBGlyph(Boolean.TRUE, Boolean.TRUE, font, 65, 0);
+
+		Assert.assertNull(cache.get(dictionary, 65, 0));
+		cache.put(dictionary, 65, 0, glyph);
+		Assert.assertSame(glyph, cache.get(dictionary, 65, 0));
+		Assert.assertNull(cache.get(dictionary, 65, 1));
+		Assert.assertNull(cache.get(dictionary, 66, 0));
+		Assert.assertNull(cache.get(new COSDictionary(dictionary), 65, 0));
+		Assert.assertEquals(1, cache.size());
+	}
+
+}
@@ -0,0 +1,46 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+	@Test
+	public void testAddAndContains() {
+		LongHashSet set = new LongHashSet();
+		Assert.assertTrue(set.isEmpty());
+		Assert.assertTrue(set.add(0L));
+		Assert.assertFalse(set.add(0L));
+		for (long i = 1; i <= 1000; ++i) {
+			Assert.assertTrue(set.add(i << 16));
+		}
+		Assert.assertFalse(set.add(500L << 16));
+		Assert.assertEquals(1001, set.size());
+		Assert.assertTrue(set.contains(0L));
+		Assert.assertTrue(set.contains(1000L << 16));
+		Assert.assertFalse(set.contains((1000L << 16) | 1));
+		Assert.assertFalse(set.contains(1001L << 16));
+		Assert.assertFalse(set.contains(-1L));
+	}
+
+}
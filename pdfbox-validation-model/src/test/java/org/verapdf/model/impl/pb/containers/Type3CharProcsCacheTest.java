@@ -0,0 +1,54 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.pdlayer.PDContentStream;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class Type3CharProcsCacheTest {
+
+	@Test
+	public void testSharedCharProcs() {
+		Type3CharProcsCache cache = new Type3CharProcsCache();
+		COSDictionary font = new COSDictionary();
+		PDResources pageResources = new PDResources();
+		PDResources fontResources = new PDResources();
+		PDInheritableResources resources = PDInheritableResources.getInstance(pageResources, fontResources);
+		Map<String, PDContentStream> charProcs = Collections.emptyMap();
+
+		Assert.assertNull(cache.get(font, resources));
+		cache.put(font, resources, charProcs);
+		Assert.assertSame(charProcs, cache.get(font, resources));
+		Assert.assertSame(charProcs, cache.get(font,
+				PDInheritableResources.getInstance(pageResources, fontResources)));
+		Assert.assertNull(cache.get(font, PDInheritableResources.getInstance(new PDResources(), fontResources)));
+		Assert.assertNull(cache.get(new COSDictionary(font), resources));
+		Assert.assertEquals(1, cache.size());
+	}
+
+}
@@ -0,0 +1,115 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.LoadingOptions;
+import org.verapdf.model.ModelBudget;
+import org.verapdf.model.ModelBudgetExceededException;
+import org.verapdf.model.ModelParser;
+import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.File;
+import java.io.IOException;
+
+public class ValidationContextTest {
+
+	@Test
+	public void testSeparationsConsistency() {
+		ValidationContext context = ValidationContext.of(null);
+		COSDictionary tintTransform = new COSDictionary();
+
+		context.addSeparation("Spot", COSName.DEVICECMYK, tintTransform);
+		context.addSeparation("Spot", COSName.DEVICECMYK, tintTransform);
+		Assert.assertFalse(context.isInconsistentSeparation("Spot"));
+
+		context.addSeparation("Other", COSName.DEVICERGB, tintTransform);
+		Assert.assertFalse(context.isInconsistentSeparation("Other"));
+
+		context.addSeparation("Spot", COSName.DEVICECMYK, new COSDictionary());
+		Assert.assertTrue(context.isInconsistentSeparation("Spot"));
+		context.addSeparation("Spot", COSName.DEVICECMYK, tintTransform);
+		Assert.assertTrue(context.isInconsistentSeparation("Spot"));
+		Assert.assertFalse(context.isInconsistentSeparation("Other"));
+	}
+
+	@Test
+	public void testContextIsRegisteredOnlyByOwner() throws IOException {
+		Assert.assertNotSame(ValidationContext.of(null), ValidationContext.of(null));
+		try (PDDocument document = new PDDocument()) {
+			assertNotRegistered(document);
+
+			ValidationContext context = ValidationContext.create(document);
+			Assert.assertSame(context, ValidationContext.of(document));
+
+			ValidationContext.release(document);
+			assertNotRegistered(document);
+		}
+	}
+
+	@Test
+	public void testParsersReleaseTheirContexts() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(ValidationContextTest.class.getResource("/model/impl/pb/pd/Fonts.pdf").toURI());
+		int registered = ValidationContext.getRegisteredCount();
+		try (ModelParser first = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B);
+				ModelParser second = ModelParser.createModelWithFlavour(file, PDFAFlavour.NO_FLAVOUR)) {
+			Assert.assertEquals(registered + 2, ValidationContext.getRegisteredCount());
+			first.getRoot().getLinkedObjects(PBCosDocument.DOCUMENT);
+			second.getRoot().getLinkedObjects(PBCosDocument.DOCUMENT);
+			Assert.assertEquals(registered + 2, ValidationContext.getRegisteredCount());
+		}
+		Assert.assertEquals(registered, ValidationContext.getRegisteredCount());
+	}
+
+	@Test
+	public void testFailedParserReleasesContext() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(ValidationContextTest.class.getResource("/model/impl/pb/operator/Operators.pdf").toURI());
+		int registered = ValidationContext.getRegisteredCount();
+		// flavour detection decodes document metadata
+		LoadingOptions options = LoadingOptions.defaultOptions()
+				.withBudget(ModelBudget.unlimited().withMaxDecodedBytes(1));
+		try {
+			ModelParser.createModelWithFlavour(file, PDFAFlavour.NO_FLAVOUR, options).close();
+			Assert.fail("Decoded metadata is not charged");
+		} catch (ModelBudgetExceededException e) {
+			Assert.assertEquals(ModelBudget.Kind.DECODED_BYTES, e.getKind());
+		}
+		Assert.assertEquals(registered, ValidationContext.getRegisteredCount());
+	}
+
+	private static void assertNotRegistered(PDDocument document) {
+		try {
+			ValidationContext.of(document);
+			Assert.fail("Context of a document is available without registration");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+}
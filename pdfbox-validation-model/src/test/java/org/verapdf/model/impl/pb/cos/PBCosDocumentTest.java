@@ -20,18 +20,17 @@
  */
 package org.verapdf.model.impl.pb.cos;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDocument;
+import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
 import org.verapdf.model.coslayer.CosXRef;
 import org.verapdf.model.impl.BaseTest;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -43,7 +42,8 @@ import static org.verapdf.model.impl.pb.cos.PBCosDocument.COS_DOCUMENT_TYPE;
  */
 public class PBCosDocumentTest extends BaseTest {
 
-    public static final String FILE_RELATIVE_PATH = "/model/impl/pb/cos/veraPDF test suite 6-1-2-t02-fail-a.pdf";
+    private static final String FILE_PATH = "cos/veraPDF test suite 6-1-2-t02-fail-a.pdf";
+    public static final String FILE_RELATIVE_PATH = "/model/impl/pb/" + FILE_PATH;
 
     private static final Long expectedNumberOfIndirects = Long.valueOf(17);
 	private static final double expectedDocumentVersion = 1.4;
@@ -55,11 +55,8 @@ public class PBCosDocumentTest extends BaseTest {
         expectedType = TYPES.contains(COS_DOCUMENT_TYPE) ? COS_DOCUMENT_TYPE : null;
         expectedID = null;
 
-        String fileAbsolutePath = getSystemIndependentPath(FILE_RELATIVE_PATH);
-        final File file = new File(fileAbsolutePath);
-        try (PDDocument doc = PDDocument.load(file, false, true)) {
-            actual = new PBCosDocument(doc, PDFAFlavour.PDFA_1_B);
-        }
+        setUp(FILE_PATH);
+        actual = new PBCosDocument(document, PDFAFlavour.PDFA_1_B);
     }
 
     @Test
@@ -166,6 +163,19 @@ public class PBCosDocumentTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testIndirectObjectsChunks() {
+        List<? extends Object> indirects = actual.getLinkedObjects(PBCosDocument.INDIRECT_OBJECTS);
+        int index = 0;
+        for (List<CosIndirect> chunk : ((PBCosDocument) actual).getIndirectObjectsChunks(5)) {
+            Assert.assertTrue(chunk.size() <= 5);
+            for (CosIndirect indirect : chunk) {
+                Assert.assertEquals(indirects.get(index++).getID(), indirect.getID());
+            }
+        }
+        Assert.assertEquals(expectedNumberOfIndirects.intValue(), index);
+    }
+
     @Test
     public void testDocumentLink() {
         List<? extends Object> doc = actual.getLinkedObjects(PBCosDocument.DOCUMENT);
@@ -28,6 +28,7 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.verapdf.model.external.ICCOutputProfile;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosDocumentTest;
 
 import java.io.File;
@@ -58,6 +59,7 @@ public class PBoxICCOutputProfileTest extends PBoxICCProfileTest {
 		File file = new File(fileAbsolutePath);
 
 		doc = PDDocument.load(file, false, true);
+		ValidationContext.create(doc);
 		PDOutputIntent outputIntent = doc.getDocumentCatalog().getOutputIntents().get(0);
 		actual = new PBoxICCOutputProfile(outputIntent.getDestOutputIntent(), COSName.GTS_PDFA1.getName());
 	}
@@ -73,6 +75,7 @@ public class PBoxICCOutputProfileTest extends PBoxICCProfileTest {
 		expectedID = null;
 		actual = null;
 
+		ValidationContext.release(doc);
 		doc.close();
 	}
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.model.impl.pb.pd;
 
+import org.apache.pdfbox.cos.COSName;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -76,6 +77,32 @@ public class PBoxPDDocumentTest extends BaseTest{
 		}
 	}
 
+	@Test
+	public void testPagesAreNotRetained() {
+		List<? extends Object> pages = actual.getLinkedObjects(PBoxPDDocument.PAGES);
+		Object page = pages.get(0);
+		Assert.assertEquals(PBoxPDPage.PAGE_TYPE, page.getObjectType());
+		Assert.assertNotSame(page, pages.get(0));
+		Assert.assertEquals(page.getID(), pages.iterator().next().getID());
+	}
+
+	@Test
+	public void testPagesCountedFromPageTreeLeaves() throws IOException {
+		try (org.apache.pdfbox.pdmodel.PDDocument broken = new org.apache.pdfbox.pdmodel.PDDocument()) {
+			broken.addPage(new org.apache.pdfbox.pdmodel.PDPage());
+			broken.addPage(new org.apache.pdfbox.pdmodel.PDPage());
+			broken.getPages().getCOSObject().setInt(COSName.COUNT, 5);
+			List<? extends Object> pages = new PBoxPDDocument(broken, null).getLinkedObjects(PBoxPDDocument.PAGES);
+			Assert.assertEquals(2, pages.size());
+			int iterated = 0;
+			for (Object page : pages) {
+				Assert.assertEquals(PBoxPDPage.PAGE_TYPE, page.getObjectType());
+				++iterated;
+			}
+			Assert.assertEquals(2, iterated);
+		}
+	}
+
 	@Test
 	public void testMetadataLink() {
 		List<? extends Object> metadata = actual.getLinkedObjects(PBoxPDDocument.METADATA);
@@ -0,0 +1,202 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.LoadingOptions;
+import org.verapdf.model.ModelBudget;
+import org.verapdf.model.ModelBudgetExceededException;
+import org.verapdf.model.ModelParser;
+import org.verapdf.model.coslayer.CosIndirect;
+import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.model.impl.pb.pd.PBoxPDDocument;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class BudgetTrackerTest {
+
+	private static final String FILE_PATH = "/model/impl/pb/pd/Fonts.pdf";
+
+	@Test
+	public void testModelObjectsBudget() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(BudgetTrackerTest.class.getResource(FILE_PATH).toURI());
+		LoadingOptions options = LoadingOptions.defaultOptions()
+				.withBudget(ModelBudget.unlimited().withMaxModelObjects(5));
+		try (final ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B, options)) {
+			final org.verapdf.model.baselayer.Object root = parser.getRoot();
+			// the model is built on another thread than the one that obtained the root
+			final ModelBudgetExceededException[] exceeded = new ModelBudgetExceededException[1];
+			Thread traversal = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						traverse(root, 0);
+					} catch (ModelBudgetExceededException e) {
+						exceeded[0] = e;
+					}
+				}
+			});
+			traversal.start();
+			traversal.join();
+			Assert.assertNotNull("Model budget is not checked", exceeded[0]);
+			Assert.assertEquals(ModelBudget.Kind.MODEL_OBJECTS, exceeded[0].getKind());
+			Assert.assertEquals(5, exceeded[0].getLimit());
+			Assert.assertTrue(parser.getBudgetTracker().getModelObjects() > 5);
+		}
+	}
+
+	@Test
+	public void testPagesAreTracked() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(BudgetTrackerTest.class.getResource(FILE_PATH).toURI());
+		long pageReached;
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B,
+				LoadingOptions.defaultOptions())) {
+			org.verapdf.model.baselayer.Object page = getFirstPage(parser.getRoot());
+			Assert.assertSame(parser.getBudgetTracker(), ((BudgetTracked) page).getBudgetTracker());
+			pageReached = parser.getBudgetTracker().getModelObjects();
+			traverse(page, 0);
+			Assert.assertTrue("Content of the page is not charged",
+					parser.getBudgetTracker().getModelObjects() > pageReached);
+		}
+		// the same model fits into the budget up to the page, but not with its content
+		LoadingOptions options = LoadingOptions.defaultOptions()
+				.withBudget(ModelBudget.unlimited().withMaxModelObjects(pageReached));
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B, options)) {
+			org.verapdf.model.baselayer.Object page = getFirstPage(parser.getRoot());
+			try {
+				traverse(page, 0);
+				Assert.fail("Content reached through a page is not charged");
+			} catch (ModelBudgetExceededException e) {
+				Assert.assertEquals(ModelBudget.Kind.MODEL_OBJECTS, e.getKind());
+			}
+		}
+	}
+
+	@Test
+	public void testIndirectObjectsAreTracked() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(BudgetTrackerTest.class.getResource(FILE_PATH).toURI());
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B,
+				LoadingOptions.defaultOptions())) {
+			PBCosDocument root = (PBCosDocument) parser.getRoot();
+			List<? extends org.verapdf.model.baselayer.Object> objects = root
+					.getLinkedObjects(PBCosDocument.INDIRECT_OBJECTS);
+			Assert.assertFalse(objects.isEmpty());
+			long before = parser.getBudgetTracker().getModelObjects();
+			Assert.assertSame(parser.getBudgetTracker(), ((BudgetTracked) objects.get(0)).getBudgetTracker());
+			Assert.assertEquals(before + 1, parser.getBudgetTracker().getModelObjects());
+			for (List<CosIndirect> chunk : root.getIndirectObjectsChunks(4)) {
+				Assert.assertSame(parser.getBudgetTracker(), ((BudgetTracked) chunk.get(0)).getBudgetTracker());
+			}
+		}
+	}
+
+	@Test
+	public void testFormXObjectDepthBudget() {
+		BudgetTracker tracker = new BudgetTracker(ModelBudget.unlimited().withMaxFormXObjectDepth(2));
+		int outer = tracker.enterFormXObject();
+		int inner = tracker.enterFormXObject();
+		try {
+			tracker.enterFormXObject();
+			Assert.fail("Form XObject depth is not checked");
+		} catch (ModelBudgetExceededException e) {
+			Assert.assertEquals(ModelBudget.Kind.FORM_XOBJECT_DEPTH, e.getKind());
+		}
+		Assert.assertEquals(1, tracker.exitFormXObject(inner));
+		Assert.assertEquals(2, tracker.exitFormXObject(outer));
+		// cached form with one nested form is used again inside of another form
+		tracker.checkFormXObject(2);
+		int entry = tracker.enterFormXObject();
+		try {
+			tracker.checkFormXObject(2);
+			Assert.fail("Depth of cached Form XObject is not checked");
+		} catch (ModelBudgetExceededException e) {
+			Assert.assertEquals(ModelBudget.Kind.FORM_XOBJECT_DEPTH, e.getKind());
+		}
+		tracker.checkFormXObject(1);
+		Assert.assertEquals(2, tracker.exitFormXObject(entry));
+	}
+
+	@Test
+	public void testDecodedBytesBudget() throws IOException {
+		BudgetTracker tracker = new BudgetTracker(ModelBudget.unlimited().withMaxDecodedBytes(4));
+		try (InputStream stream = tracker.track(new ByteArrayInputStream(new byte[8]))) {
+			Assert.assertEquals(4, stream.read(new byte[4]));
+			try {
+				stream.read();
+				Assert.fail("Decoded bytes are not checked");
+			} catch (ModelBudgetExceededException e) {
+				Assert.assertEquals(ModelBudget.Kind.DECODED_BYTES, e.getKind());
+				Assert.assertEquals(5, tracker.getDecodedBytes());
+			}
+		}
+	}
+
+	@Test
+	public void testContentStreamIsChargedBeforeParsing() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(BudgetTrackerTest.class.getResource(FILE_PATH).toURI());
+		LoadingOptions options = LoadingOptions.defaultOptions()
+				.withBudget(ModelBudget.unlimited().withMaxDecodedBytes(16));
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B, options)) {
+			org.verapdf.model.baselayer.Object page = getFirstPage(parser.getRoot());
+			try {
+				traverse(page, 0);
+				Assert.fail("Decoded content is not charged");
+			} catch (ModelBudgetExceededException e) {
+				Assert.assertEquals(ModelBudget.Kind.DECODED_BYTES, e.getKind());
+				Assert.assertTrue(parser.getBudgetTracker().getDecodedBytes() > 16);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeLimit() {
+		ModelBudget.unlimited().withMaxOperatorsPerStream(-2);
+	}
+
+	private static org.verapdf.model.baselayer.Object getFirstPage(org.verapdf.model.baselayer.Object root) {
+		org.verapdf.model.baselayer.Object document = root.getLinkedObjects(PBCosDocument.DOCUMENT).get(0);
+		List<? extends org.verapdf.model.baselayer.Object> pages = document.getLinkedObjects(PBoxPDDocument.PAGES);
+		Assert.assertFalse(pages.isEmpty());
+		return pages.get(0);
+	}
+
+	private static void traverse(org.verapdf.model.baselayer.Object object, int depth) {
+		if (depth > 10) {
+			return;
+		}
+		for (String link : object.getLinks()) {
+			for (org.verapdf.model.baselayer.Object child : object.getLinkedObjects(link)) {
+				traverse(child, depth + 1);
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+
+import java.io.IOException;
+
+public class FontHelperTest {
+
+	@Test
+	public void testFontContainerIsCachedPerDocument() throws IOException {
+		COSDictionary dictionary = new COSDictionary();
+		dictionary.setItem(COSName.TYPE, COSName.FONT);
+		dictionary.setItem(COSName.SUBTYPE, COSName.TYPE1);
+		dictionary.setItem(COSName.BASE_FONT, COSName.getPDFName("Helvetica"));
+		PDType1Font font = new PDType1Font(dictionary);
+
+		try (PDDocument document = new PDDocument(); PDDocument other = new PDDocument()) {
+			ValidationContext.create(document);
+			ValidationContext.create(other);
+			Object container = FontHelper.getFontContainer(font, document);
+			Assert.assertNotNull(container);
+			Assert.assertSame(container, FontHelper.getFontContainer(font, document));
+			Assert.assertSame(container, FontHelper.getFontContainer(new PDType1Font(dictionary), document));
+			Assert.assertNotSame(container, FontHelper.getFontContainer(font, other));
+
+			ValidationContext.release(document);
+			Assert.assertNotSame(container, FontHelper.getFontContainer(font, document));
+			ValidationContext.release(other);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.core.EncryptedPdfException;
+import org.verapdf.core.ModelParsingException;
+import org.verapdf.model.ModelParser;
+import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.pdfa.PdfBoxFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+
+public class LinkStatisticsTest {
+
+	private static final String FILE_PATH = "/model/impl/pb/pd/Fonts.pdf";
+
+	@After
+	public void tearDown() {
+		LinkStatistics.setEnabled(false);
+		LinkStatistics.getGlobal().reset();
+	}
+
+	@Test
+	public void testLinksAreRecordedPerDocument()
+			throws URISyntaxException, ModelParsingException, EncryptedPdfException {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(LinkStatisticsTest.class.getResource(FILE_PATH).toURI());
+		LinkStatistics.setEnabled(true);
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B)) {
+			org.verapdf.model.baselayer.Object root = parser.getRoot();
+			int documents = root.getLinkedObjects(PBCosDocument.DOCUMENT).size();
+			root.getLinkedObjects(PBCosDocument.DOCUMENT);
+
+			LinkStatistics.Entry entry = find(parser.getLinkStatistics().getEntries(),
+					PBCosDocument.COS_DOCUMENT_TYPE, PBCosDocument.DOCUMENT);
+			Assert.assertNotNull(entry);
+			Assert.assertEquals(2, entry.getCalls());
+			Assert.assertEquals(2 * documents, entry.getObjects());
+			Assert.assertNotNull(find(LinkStatistics.getGlobal().getEntries(),
+					PBCosDocument.COS_DOCUMENT_TYPE, PBCosDocument.DOCUMENT));
+		}
+	}
+
+	@Test
+	public void testLinksAreRecordedIntoTheirDocument() throws Exception {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(LinkStatisticsTest.class.getResource(FILE_PATH).toURI());
+		LinkStatistics.setEnabled(true);
+		try (ModelParser first = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B);
+				ModelParser second = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B)) {
+			final org.verapdf.model.baselayer.Object root = first.getRoot();
+			second.getRoot();
+			// the model of the first document is built on another thread
+			Thread traversal = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					root.getLinkedObjects(PBCosDocument.DOCUMENT);
+				}
+			});
+			traversal.start();
+			traversal.join();
+
+			LinkStatistics.Entry entry = find(first.getLinkStatistics().getEntries(),
+					PBCosDocument.COS_DOCUMENT_TYPE, PBCosDocument.DOCUMENT);
+			Assert.assertNotNull(entry);
+			Assert.assertEquals(1, entry.getCalls());
+			Assert.assertTrue(second.getLinkStatistics().getEntries().isEmpty());
+		}
+	}
+
+	@Test
+	public void testNothingIsRecordedWhenDisabled()
+			throws URISyntaxException, ModelParsingException, EncryptedPdfException {
+		PdfBoxFoundryProvider.initialise();
+		File file = new File(LinkStatisticsTest.class.getResource(FILE_PATH).toURI());
+		try (ModelParser parser = ModelParser.createModelWithFlavour(file, PDFAFlavour.PDFA_1_B)) {
+			parser.getRoot().getLinkedObjects(PBCosDocument.DOCUMENT);
+			Assert.assertTrue(parser.getLinkStatistics().getEntries().isEmpty());
+		}
+	}
+
+	private static LinkStatistics.Entry find(List<LinkStatistics.Entry> entries, String type, String link) {
+		for (LinkStatistics.Entry entry : entries) {
+			if (entry.getModelType().equals(type) && entry.getLink().equals(link)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+}
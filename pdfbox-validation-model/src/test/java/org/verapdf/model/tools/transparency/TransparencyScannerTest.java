@@ -0,0 +1,98 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools.transparency;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+public class TransparencyScannerTest {
+
+	private static final String BASE_FOLDER = "/model/impl/pb/";
+	private static final String[] FILES = {
+			"operator/Operators.pdf",
+			"pd/Fonts.pdf",
+			"pd/ColorSpaces.pdf",
+			"pd/InteractiveObjects.pdf"
+	};
+
+	@Test
+	public void testSameResultAsOperatorsParsing() throws URISyntaxException, IOException {
+		for (String path : FILES) {
+			File file = new File(TransparencyScannerTest.class.getResource(BASE_FOLDER + path).toURI());
+			try (PDDocument document = PDDocument.load(file, false, true)) {
+				ValidationContext.create(document);
+				try {
+					for (PDPage page : document.getPages()) {
+						PDInheritableResources resources = PDInheritableResources
+								.getInstance(page.getInheritedResources(), page.getPageResources());
+						boolean expected = new PBoxPDContentStream(page, resources, document, null)
+								.isContainsTransparency();
+						boolean actual = new TransparencyScanner().containsTransparency(page, resources);
+						Assert.assertEquals(path, Boolean.valueOf(expected), Boolean.valueOf(actual));
+					}
+				} finally {
+					ValidationContext.release(document);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFillAlpha() throws IOException {
+		Assert.assertTrue(containsTransparency("/GS0 gs 0 0 10 10 re f"));
+		Assert.assertFalse(containsTransparency("/GS0 gs 0 0 10 10 re S"));
+		Assert.assertFalse(containsTransparency("q /GS0 gs Q 0 0 10 10 re f"));
+		Assert.assertFalse(containsTransparency("0 0 10 10 re f"));
+	}
+
+	private static boolean containsTransparency(String content) throws IOException {
+		COSDictionary extGState = new COSDictionary();
+		extGState.setItem(COSName.CA_NS, new COSFloat(0.5f));
+		COSDictionary extGStates = new COSDictionary();
+		extGStates.setItem(COSName.getPDFName("GS0"), extGState);
+		COSDictionary resources = new COSDictionary();
+		resources.setItem(COSName.EXT_G_STATE, extGStates);
+
+		try (PDDocument document = new PDDocument()) {
+			PDPage page = new PDPage();
+			page.setContents(new PDStream(document,
+					new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII))));
+			return new TransparencyScanner().containsTransparency(page,
+					PDInheritableResources.getInstance(new PDResources(resources)));
+		}
+	}
+}